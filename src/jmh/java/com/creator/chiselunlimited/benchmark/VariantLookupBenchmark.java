@@ -0,0 +1,78 @@
+package com.creator.chiselunlimited.benchmark;
+
+import com.creator.chiselunlimited.variants.VariantLookup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// "What can this be chiseled into" against a registry the size of a large modpack
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantLookupBenchmark {
+    private static final int QUERIES = 4096;
+
+    @Param({"20000"})
+    public int registrySize;
+
+    @Param({"16", "200"})
+    public int groupSize;
+
+    private VariantLookup lookup;
+    private int[] queries;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        VariantLookup.Builder builder = new VariantLookup.Builder(registrySize, registrySize);
+        // Half the registry is chiselable, spread over groups of groupSize
+        int next = 0;
+        while (next + groupSize <= registrySize / 2) {
+            int[] ids = new int[groupSize];
+            for (int i = 0; i < groupSize; i++) {
+                ids[i] = (next++) * 2;
+            }
+            builder.addGroup(ids, ids);
+        }
+        lookup = builder.build();
+
+        queries = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextInt(registrySize);
+        }
+    }
+
+    @Benchmark
+    public void blockEntry(Blackhole blackhole) {
+        for (int id : queries) {
+            blackhole.consume(lookup.blockEntry(id));
+        }
+    }
+
+    // Lookup plus resolving the next variant, as a chisel click does
+    @Benchmark
+    public void nextVariant(Blackhole blackhole) {
+        for (int id : queries) {
+            int entry = lookup.blockEntry(id);
+            if (entry != VariantLookup.NONE) {
+                int group = VariantLookup.group(entry);
+                blackhole.consume(lookup.blockAt(group, (VariantLookup.index(entry) + 1) % lookup.variantCount(group)));
+            }
+        }
+    }
+}
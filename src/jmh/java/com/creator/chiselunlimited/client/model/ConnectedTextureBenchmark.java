@@ -0,0 +1,80 @@
+package com.creator.chiselunlimited.client.model;
+
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraftforge.client.model.data.ModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The per block work of ConnectedTextureModel after the neighbour reads: fold six raw masks through CtmLayout,
+// fetch the thread's cached ModelData, then ask the real model for each face's quads.
+// Lives in the model's package to reach its package-private steps. Run on several threads like section compiling.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConnectedTextureBenchmark {
+    private static final int BLOCKS = 4096;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private int[] masks;
+    private ConnectedTextureModel model;
+    private RandomSource random;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        SplittableRandom source = new SplittableRandom(42);
+        masks = new int[BLOCKS * 6];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = source.nextInt(256);
+        }
+        // Selection only depends on the list slots, so distinct empty lists stand in for baked quads
+        List<BakedQuad>[] quads = new List[6 * CtmLayout.STATES];
+        for (int i = 0; i < quads.length; i++) {
+            quads[i] = new ArrayList<>(0);
+        }
+        model = new ConnectedTextureModel(null, null, quads);
+        random = RandomSource.create(42);
+    }
+
+    @Benchmark
+    public void layoutStates(Blackhole blackhole) {
+        for (int mask : masks) {
+            blackhole.consume(CtmLayout.state(mask));
+        }
+    }
+
+    @Benchmark
+    public void modelDataAndQuads(Blackhole blackhole) {
+        for (int block = 0; block < BLOCKS; block++) {
+            long connections = 0;
+            for (int face = 0; face < 6; face++) {
+                connections = ConnectedTextureModel.withFace(connections, face, masks[block * 6 + face]);
+            }
+            ModelData data = ConnectedTextureModel.modelData(connections);
+            for (Direction side : DIRECTIONS) {
+                blackhole.consume(model.getQuads(null, side, random, data, null));
+            }
+        }
+    }
+}
@@ -1,12 +1,32 @@
 package com.creator.chiselunlimited;
 
+import com.creator.chiselunlimited.blocks.ModBlocks;
+import com.creator.chiselunlimited.blocks.entity.ModBlockEntities;
+import com.creator.chiselunlimited.chisel.BulkChiselQueue;
+import com.creator.chiselunlimited.client.gui.VariantCatalog;
+import com.creator.chiselunlimited.client.model.ConnectedTextureModels;
+import com.creator.chiselunlimited.items.ModDataComponents;
 import com.creator.chiselunlimited.items.ModItems;
+import com.creator.chiselunlimited.network.ModNetwork;
+import com.creator.chiselunlimited.network.VariantPalette;
+import com.creator.chiselunlimited.profiling.StartupProfiler;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.worldgen.ModFeatures;
+import com.creator.chiselunlimited.worldgen.PregenBenchmark;
 import com.mojang.logging.LogUtils;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.CreativeModeTabs;
+import net.minecraft.world.level.block.Block;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ModelEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.BuildCreativeModeTabContentsEvent;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.server.ServerStartingEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -14,8 +34,13 @@ import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
+import net.minecraftforge.network.PacketDistributor;
+import net.minecraftforge.registries.IdMappingEvent;
+import net.minecraftforge.registries.RegistryObject;
 import org.slf4j.Logger;
 
+import java.util.List;
+
 // The value here should match an entry in the META-INF/mods.toml file
 @Mod(ChiselUnlimited.MOD_ID)
 public class ChiselUnlimited {
@@ -31,7 +56,18 @@ public class ChiselUnlimited {
         // Register ourselves for server and other game events we are interested in
         MinecraftForge.EVENT_BUS.register(this);
 
+        StartupProfiler.install(modEventBus);
+
+        // Variant groups drive block registration, so they have to be read before anything is registered
+        try (var ignored = StartupProfiler.time("variant_groups")) {
+            VariantGroups.load();
+        }
+        ModBlocks.register(modEventBus);
         ModItems.register(modEventBus);
+        ModBlockEntities.register(modEventBus);
+        ModDataComponents.register(modEventBus);
+        ModFeatures.register(modEventBus);
+        ModNetwork.register();
 
         // Register the item to a creative tab
         modEventBus.addListener(this::addCreative);
@@ -40,21 +76,68 @@ public class ChiselUnlimited {
     }
 
     private void commonSetup(final FMLCommonSetupEvent event) {
-
+        try (var ignored = StartupProfiler.time("common_setup")) {
+            VariantGroups.freeze();
+        }
     }
 
-    // Add the example block item to the building blocks tab
+    // Add our items to the vanilla tabs and every variant block to the building blocks tab
+    // Not profiled: tab contents are built lazily after joining a world, long after the startup report
     private void addCreative(BuildCreativeModeTabContentsEvent event) {
         if (event.getTabKey() == CreativeModeTabs.INGREDIENTS) {
             event.accept(ModItems.Alexandrite);
             event.accept(ModItems.Raw_Alexandrite);
         }
+        if (event.getTabKey() == CreativeModeTabs.NATURAL_BLOCKS) {
+            event.accept(ModBlocks.ALEXANDRITE_ORE);
+            event.accept(ModBlocks.DEEPSLATE_ALEXANDRITE_ORE);
+        }
+        if (event.getTabKey() == CreativeModeTabs.TOOLS_AND_UTILITIES) {
+            event.accept(ModItems.Chisel);
+            event.accept(ModBlocks.AUTO_CHISEL);
+        }
+        if (event.getTabKey() == CreativeModeTabs.BUILDING_BLOCKS) {
+            for (List<RegistryObject<Block>> group : ModBlocks.VARIANT_BLOCKS) {
+                group.forEach(event::accept);
+            }
+        }
     }
 
     // You can use SubscribeEvent and let the Event Bus discover methods to call
     @SubscribeEvent
     public void onServerStarting(ServerStartingEvent event) {
+        BulkChiselQueue.start();
+    }
 
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent.Post event) {
+        BulkChiselQueue.tick();
+        PregenBenchmark.tick();
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        BulkChiselQueue.stop();
+        PregenBenchmark.stop();
+    }
+
+    @SubscribeEvent
+    public void onRegisterCommands(RegisterCommandsEvent event) {
+        PregenBenchmark.register(event.getDispatcher());
+    }
+
+    // Raw ids change when a world's saved ids or a server's registries are applied, and the lookup is keyed by them
+    @SubscribeEvent
+    public void onIdMapping(IdMappingEvent event) {
+        VariantGroups.freeze();
+    }
+
+    // Send the variant palette once so later packets can refer to variants by index
+    @SubscribeEvent
+    public void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            ModNetwork.CHANNEL.send(VariantPalette.create(), PacketDistributor.PLAYER.with(player));
+        }
     }
 
     // You can use EventBusSubscriber to automatically register all static methods in the class annotated with @SubscribeEvent
@@ -64,5 +147,17 @@ public class ChiselUnlimited {
         public static void onClientSetup(FMLClientSetupEvent event) {
 
         }
+
+        @SubscribeEvent
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            event.registerReloadListener(VariantCatalog.INSTANCE);
+        }
+
+        @SubscribeEvent
+        public static void onModifyBakingResult(ModelEvent.ModifyBakingResult event) {
+            try (var ignored = StartupProfiler.time("model_baking")) {
+                ConnectedTextureModels.wrap(event);
+            }
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.creator.chiselunlimited;
 
+import com.creator.chiselunlimited.profiling.StartupProfiler;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
 import net.minecraftforge.common.ForgeConfigSpec;
@@ -35,12 +36,27 @@ public class Config {
             .comment("A list of items to log on common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), Config::validateItemName);
 
+    private static final ForgeConfigSpec.IntValue MAX_BULK_CHISEL_BLOCKS = BUILDER
+            .comment("The most blocks a single area chisel may change")
+            .defineInRange("maxBulkChiselBlocks", 4096, 1, 1 << 20);
+
+    private static final ForgeConfigSpec.IntValue BULK_CHISEL_SECTIONS_PER_TICK = BUILDER
+            .comment("How many chunk sections of a bulk chisel are applied per server tick")
+            .defineInRange("bulkChiselSectionsPerTick", 16, 1, 4096);
+
+    private static final ForgeConfigSpec.BooleanValue DUMP_STARTUP_PROFILE = BUILDER
+            .comment("Whether to write the startup phase timings to " + StartupProfiler.FILE_NAME + " in the game directory")
+            .define("dumpStartupProfile", false);
+
     static final ForgeConfigSpec SPEC = BUILDER.build();
 
     public static boolean logDirtBlock;
     public static int magicNumber;
     public static String magicNumberIntroduction;
     public static Set<Item> items;
+    public static int maxBulkChiselBlocks = 4096;
+    public static int bulkChiselSectionsPerTick = 16;
+    public static boolean dumpStartupProfile;
 
     private static boolean validateItemName(final Object obj) {
         return obj instanceof final String itemName && ForgeRegistries.ITEMS.containsKey(ResourceLocation.tryParse(itemName));
@@ -48,9 +64,18 @@ public class Config {
 
     @SubscribeEvent
     static void onLoad(final ModConfigEvent event) {
+        try (var ignored = StartupProfiler.time("config")) {
+            load();
+        }
+    }
+
+    private static void load() {
         logDirtBlock = LOG_DIRT_BLOCK.get();
         magicNumber = MAGIC_NUMBER.get();
         magicNumberIntroduction = MAGIC_NUMBER_INTRODUCTION.get();
+        maxBulkChiselBlocks = MAX_BULK_CHISEL_BLOCKS.get();
+        bulkChiselSectionsPerTick = BULK_CHISEL_SECTIONS_PER_TICK.get();
+        dumpStartupProfile = DUMP_STARTUP_PROFILE.get();
 
         // convert the list of strings into a set of items
         items = ITEM_STRINGS.get().stream()
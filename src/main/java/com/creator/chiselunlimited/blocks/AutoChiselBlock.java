@@ -0,0 +1,94 @@
+package com.creator.chiselunlimited.blocks;
+
+import com.creator.chiselunlimited.blocks.entity.AutoChiselBlockEntity;
+import com.creator.chiselunlimited.blocks.entity.ModBlockEntities;
+import com.creator.chiselunlimited.client.ClientHooks;
+import com.creator.chiselunlimited.items.ChiselItem;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.variants.VariantLookup;
+import com.mojang.serialization.MapCodec;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import org.jetbrains.annotations.Nullable;
+
+// Chisels piped-in items into its target variant. Right click with any variant, or pick one with a chisel, to set the target.
+// Idle machines sleep inside their block entity, so waking up never touches the block state or re-meshes the chunk.
+public class AutoChiselBlock extends BaseEntityBlock {
+    public static final MapCodec<AutoChiselBlock> CODEC = simpleCodec(AutoChiselBlock::new);
+
+    public AutoChiselBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected MapCodec<? extends BaseEntityBlock> codec() {
+        return CODEC;
+    }
+
+    @Override
+    protected RenderShape getRenderShape(BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    @Override
+    public @Nullable BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new AutoChiselBlockEntity(pos, state);
+    }
+
+    @Override
+    public <T extends BlockEntity> @Nullable BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
+        if (level.isClientSide) {
+            return null;
+        }
+        return createTickerHelper(type, ModBlockEntities.AUTO_CHISEL.get(), AutoChiselBlockEntity::serverTick);
+    }
+
+    @Override
+    protected InteractionResult useItemOn(ItemStack stack, BlockState state, Level level, BlockPos pos, Player player, InteractionHand hand, BlockHitResult hit) {
+        // A chisel opens the variant picker for this machine
+        if (stack.getItem() instanceof ChiselItem) {
+            if (level.isClientSide && level.getBlockEntity(pos) instanceof AutoChiselBlockEntity machine) {
+                ClientHooks.openAutoChiselScreen(pos, machine.getTarget());
+            }
+            return InteractionResult.SUCCESS;
+        }
+        if (VariantGroups.groupOf(stack.getItem()) == VariantLookup.NONE) {
+            return InteractionResult.TRY_WITH_EMPTY_HAND;
+        }
+        if (!level.isClientSide && level.getBlockEntity(pos) instanceof AutoChiselBlockEntity machine) {
+            machine.setTarget(stack.getItem());
+            player.displayClientMessage(Component.translatable("message.chisel_unlimited.auto_chisel.target", stack.getHoverName()), true);
+        }
+        return InteractionResult.SUCCESS;
+    }
+
+    @Override
+    protected InteractionResult useWithoutItem(BlockState state, Level level, BlockPos pos, Player player, BlockHitResult hit) {
+        if (!level.isClientSide && level.getBlockEntity(pos) instanceof AutoChiselBlockEntity machine) {
+            player.displayClientMessage(machine.getTarget() == null
+                    ? Component.translatable("message.chisel_unlimited.auto_chisel.no_target")
+                    : Component.translatable("message.chisel_unlimited.auto_chisel.target", machine.getTarget().getDefaultInstance().getHoverName()), true);
+        }
+        return InteractionResult.SUCCESS;
+    }
+
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (!state.is(newState.getBlock()) && level.getBlockEntity(pos) instanceof AutoChiselBlockEntity machine) {
+            machine.dropContents();
+        }
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+}
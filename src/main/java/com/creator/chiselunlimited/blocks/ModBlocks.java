@@ -0,0 +1,78 @@
+package com.creator.chiselunlimited.blocks;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.items.ModItems;
+import com.creator.chiselunlimited.profiling.StartupProfiler;
+import com.creator.chiselunlimited.variants.VariantGroup;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.valueproviders.UniformInt;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.DropExperienceBlock;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class ModBlocks {
+    // Make sure my Blocks are being Registered
+    public static final DeferredRegister<Block> BLOCKS =
+            DeferredRegister.create(ForgeRegistries.BLOCKS, ChiselUnlimited.MOD_ID);
+
+    public static final RegistryObject<AutoChiselBlock> AUTO_CHISEL = registerBlock("auto_chisel", AutoChiselBlock::new, BlockBehaviour.Properties.of()
+            .strength(3.5F)
+            .sound(SoundType.METAL)
+            .requiresCorrectToolForDrops());
+
+    // Generated by the alexandrite_ore placed feature, see worldgen/PaletteAwareOreFeature
+    public static final RegistryObject<DropExperienceBlock> ALEXANDRITE_ORE = registerBlock("alexandrite_ore",
+            properties -> new DropExperienceBlock(UniformInt.of(3, 7), properties), BlockBehaviour.Properties.of()
+                    .strength(3.0F, 3.0F)
+                    .sound(SoundType.STONE)
+                    .requiresCorrectToolForDrops());
+    public static final RegistryObject<DropExperienceBlock> DEEPSLATE_ALEXANDRITE_ORE = registerBlock("deepslate_alexandrite_ore",
+            properties -> new DropExperienceBlock(UniformInt.of(3, 7), properties), BlockBehaviour.Properties.of()
+                    .strength(4.5F, 3.0F)
+                    .sound(SoundType.DEEPSLATE)
+                    .requiresCorrectToolForDrops());
+
+    // Registered variant blocks, one list per entry of VariantGroups.all() and in the same order
+    public static final List<List<RegistryObject<Block>>> VARIANT_BLOCKS = new ArrayList<>();
+
+    // Register every variant of every data-defined group, then pass the EventBus to the Registry
+    public static void register(IEventBus eventBus) {
+        try (var ignored = StartupProfiler.time("deferred_register")) {
+            for (VariantGroup group : VariantGroups.all()) {
+                List<RegistryObject<Block>> variants = new ArrayList<>(group.variants().size());
+                for (String name : group.variants()) {
+                    variants.add(registerBlock(name, Block::new, BlockBehaviour.Properties.of()
+                            .strength(group.strength(), group.resistance())
+                            .sound(SoundType.AMETHYST)
+                            .requiresCorrectToolForDrops()));
+                }
+                VARIANT_BLOCKS.add(List.copyOf(variants));
+            }
+            BLOCKS.register(eventBus);
+        }
+    }
+
+    private static <T extends Block> RegistryObject<T> registerBlock(String name, Function<BlockBehaviour.Properties, T> factory, BlockBehaviour.Properties properties) {
+        RegistryObject<T> block = BLOCKS.register(name, () -> factory.apply(properties.setId(ResourceKey.create(Registries.BLOCK, id(name)))));
+        ModItems.ITEMS.register(name, () -> new BlockItem(block.get(), new Item.Properties().useBlockDescriptionPrefix().setId(ResourceKey.create(Registries.ITEM, id(name)))));
+        return block;
+    }
+
+    private static ResourceLocation id(String name) {
+        return ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, name);
+    }
+}
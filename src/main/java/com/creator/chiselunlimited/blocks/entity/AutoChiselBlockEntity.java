@@ -0,0 +1,227 @@
+package com.creator.chiselunlimited.blocks.entity;
+
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.variants.VariantLookup;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.items.ItemStackHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+public class AutoChiselBlockEntity extends BlockEntity {
+    public static final int INPUT_SLOTS = 9;
+    public static final int OUTPUT_SLOTS = 9;
+    // Ticks between operations; each operation converts whole stacks
+    private static final int INTERVAL = 8;
+
+    private final ItemStackHandler input = new ItemStackHandler(INPUT_SLOTS) {
+        @Override
+        public boolean isItemValid(int slot, @NotNull ItemStack stack) {
+            return VariantGroups.groupOf(stack.getItem()) != VariantLookup.NONE;
+        }
+
+        @Override
+        protected void onContentsChanged(int slot) {
+            setChanged();
+            wake();
+        }
+    };
+    private final ItemStackHandler output = new ItemStackHandler(OUTPUT_SLOTS) {
+        @Override
+        protected void onContentsChanged(int slot) {
+            setChanged();
+            wake();
+        }
+    };
+    private final LazyOptional<IItemHandler> automation = LazyOptional.of(() -> new AutomationHandler(input, output));
+
+    @Nullable
+    private Item target;
+    // Per input slot: the item last seen there and whether it converts into the target
+    private final Item[] resolvedItems = new Item[INPUT_SLOTS];
+    private final boolean[] resolvedConvertible = new boolean[INPUT_SLOTS];
+    private int cooldown;
+    // Set when a pass found nothing to do; cleared by any inventory or target change
+    private boolean sleeping;
+
+    public AutoChiselBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.AUTO_CHISEL.get(), pos, state);
+    }
+
+    public static void serverTick(Level level, BlockPos pos, BlockState state, AutoChiselBlockEntity machine) {
+        if (machine.sleeping || --machine.cooldown > 0) {
+            return;
+        }
+        machine.cooldown = INTERVAL;
+        machine.sleeping = !machine.process();
+    }
+
+    // Converts every input stack that fits into the output. Returns false when nothing could be done.
+    private boolean process() {
+        if (target == null) {
+            return false;
+        }
+        boolean worked = false;
+        for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+            ItemStack stack = input.getStackInSlot(slot);
+            if (stack.isEmpty() || !convertible(slot, stack.getItem())) {
+                continue;
+            }
+            ItemStack remainder = ItemHandlerHelper.insertItemStacked(output, new ItemStack(target, stack.getCount()), true);
+            int amount = stack.getCount() - remainder.getCount();
+            if (amount > 0) {
+                input.extractItem(slot, amount, false);
+                ItemHandlerHelper.insertItemStacked(output, new ItemStack(target, amount), false);
+                worked = true;
+            }
+        }
+        return worked;
+    }
+
+    private boolean convertible(int slot, Item item) {
+        if (resolvedItems[slot] != item) {
+            resolvedItems[slot] = item;
+            int group = VariantGroups.groupOf(item);
+            resolvedConvertible[slot] = item != target && group != VariantLookup.NONE && group == VariantGroups.groupOf(target);
+        }
+        return resolvedConvertible[slot];
+    }
+
+    // Any inventory or target change might mean there is work again
+    private void wake() {
+        sleeping = false;
+    }
+
+    @Nullable
+    public Item getTarget() {
+        return target;
+    }
+
+    public void setTarget(Item target) {
+        this.target = target;
+        Arrays.fill(resolvedItems, null);
+        setChanged();
+        wake();
+        // Clients only need the target, so the chisel screen can highlight it
+        if (level != null && !level.isClientSide) {
+            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), Block.UPDATE_CLIENTS);
+        }
+    }
+
+    public void dropContents() {
+        if (level == null) {
+            return;
+        }
+        for (ItemStackHandler handler : new ItemStackHandler[]{input, output}) {
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                Block.popResource(level, worldPosition, handler.getStackInSlot(slot));
+            }
+        }
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.saveAdditional(tag, registries);
+        tag.put("input", input.serializeNBT(registries));
+        tag.put("output", output.serializeNBT(registries));
+        saveTarget(tag);
+    }
+
+    private void saveTarget(CompoundTag tag) {
+        if (target != null) {
+            tag.putString("target", BuiltInRegistries.ITEM.getKey(target).toString());
+        }
+    }
+
+    @Override
+    protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.loadAdditional(tag, registries);
+        // Update tags from the server carry the target only
+        if (tag.contains("input")) {
+            input.deserializeNBT(registries, tag.getCompound("input"));
+            output.deserializeNBT(registries, tag.getCompound("output"));
+        }
+        ResourceLocation id = ResourceLocation.tryParse(tag.getString("target"));
+        target = id == null ? null : BuiltInRegistries.ITEM.getOptional(id).orElse(null);
+        Arrays.fill(resolvedItems, null);
+    }
+
+    @Override
+    public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
+        CompoundTag tag = new CompoundTag();
+        saveTarget(tag);
+        return tag;
+    }
+
+    @Override
+    public Packet<ClientGamePacketListener> getUpdatePacket() {
+        return ClientboundBlockEntityDataPacket.create(this);
+    }
+
+    @Override
+    public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+        if (cap == ForgeCapabilities.ITEM_HANDLER) {
+            return automation.cast();
+        }
+        return super.getCapability(cap, side);
+    }
+
+    @Override
+    public void invalidateCaps() {
+        super.invalidateCaps();
+        automation.invalidate();
+    }
+
+    // What hoppers and pipes see: insertion goes to the input slots, extraction comes from the output slots
+    private record AutomationHandler(ItemStackHandler input, ItemStackHandler output) implements IItemHandler {
+        @Override
+        public int getSlots() {
+            return INPUT_SLOTS + OUTPUT_SLOTS;
+        }
+
+        @Override
+        public @NotNull ItemStack getStackInSlot(int slot) {
+            return slot < INPUT_SLOTS ? input.getStackInSlot(slot) : output.getStackInSlot(slot - INPUT_SLOTS);
+        }
+
+        @Override
+        public @NotNull ItemStack insertItem(int slot, @NotNull ItemStack stack, boolean simulate) {
+            return slot < INPUT_SLOTS ? input.insertItem(slot, stack, simulate) : stack;
+        }
+
+        @Override
+        public @NotNull ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return slot < INPUT_SLOTS ? ItemStack.EMPTY : output.extractItem(slot - INPUT_SLOTS, amount, simulate);
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return slot < INPUT_SLOTS ? input.getSlotLimit(slot) : output.getSlotLimit(slot - INPUT_SLOTS);
+        }
+
+        @Override
+        public boolean isItemValid(int slot, @NotNull ItemStack stack) {
+            return slot < INPUT_SLOTS && input.isItemValid(slot, stack);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.creator.chiselunlimited.blocks.entity;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.blocks.ModBlocks;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.util.Set;
+
+public class ModBlockEntities {
+    public static final DeferredRegister<BlockEntityType<?>> BLOCK_ENTITIES =
+            DeferredRegister.create(ForgeRegistries.BLOCK_ENTITY_TYPES, ChiselUnlimited.MOD_ID);
+
+    public static final RegistryObject<BlockEntityType<AutoChiselBlockEntity>> AUTO_CHISEL = BLOCK_ENTITIES.register("auto_chisel",
+            () -> new BlockEntityType<>(AutoChiselBlockEntity::new, Set.of(ModBlocks.AUTO_CHISEL.get())));
+
+    public static void register(IEventBus eventBus) {
+        BLOCK_ENTITIES.register(eventBus);
+    }
+}
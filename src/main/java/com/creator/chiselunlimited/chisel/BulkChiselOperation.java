@@ -0,0 +1,176 @@
+package com.creator.chiselunlimited.chisel;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+// Swaps many blocks of one variant for another, one chunk section at a time.
+// The fast path writes the section palette directly, which skips everything LevelChunk.setBlockState and
+// Level.setBlock would do. It is therefore limited to swaps where none of that can change anything:
+//  - both blocks are plain Block instances (our variants, stone, planks...), so no onPlace/onRemove callback or
+//    redstone signal is skipped; subclasses like sponge or the redstone block always take setBlock
+//  - no block entity on either side, so there is nothing to create or remove
+//  - no POI type on either side, so the POI manager is unaffected
+//  - both states are solid full cubes with no properties, the same light emission and light block, and the same
+//    motion blocking, fluid and leaves status, so light, heightmaps and neighbour shapes stay as they were
+// Such swaps get one batched client packet per section via the chunk holder. Blocks on the edge of the selection
+// also notify their outside neighbours, with a neighbour update and a shape update. Everything else falls back
+// to setBlock.
+public class BulkChiselOperation {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final ServerLevel level;
+    private final Block from;
+    private final Block to;
+    private final LongSet positions;
+    // Section key -> section relative positions, in selection order
+    private final Long2ObjectLinkedOpenHashMap<ShortArrayList> sections = new Long2ObjectLinkedOpenHashMap<>();
+
+    private int blocksChanged;
+    private int sectionsApplied;
+    private int fallbackUpdates;
+    private int neighbourUpdates;
+
+    public BulkChiselOperation(ServerLevel level, Block from, Block to, LongSet positions) {
+        this.level = level;
+        this.from = from;
+        this.to = to;
+        this.positions = positions;
+        for (LongIterator it = positions.iterator(); it.hasNext(); ) {
+            long pos = it.nextLong();
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            // Same packing as SectionPos.sectionRelativePos, without creating a BlockPos
+            short relative = (short) ((x & 15) << 8 | (z & 15) << 4 | y & 15);
+            sections.computeIfAbsent(SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z)),
+                    key -> new ShortArrayList()).add(relative);
+        }
+    }
+
+    public int pendingSections() {
+        return sections.size();
+    }
+
+    public boolean isDone() {
+        return sections.isEmpty();
+    }
+
+    // Applies up to maxSections sections and returns how many were applied
+    public int apply(int maxSections) {
+        int applied = 0;
+        while (applied < maxSections && !sections.isEmpty()) {
+            long key = sections.firstLongKey();
+            applySection(key, sections.removeFirst());
+            applied++;
+        }
+        return applied;
+    }
+
+    public int applyAll() {
+        return apply(Integer.MAX_VALUE);
+    }
+
+    private void applySection(long key, ShortArrayList relative) {
+        int sectionX = SectionPos.x(key);
+        int sectionY = SectionPos.y(key);
+        int sectionZ = SectionPos.z(key);
+        LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+        if (chunk == null) {
+            return;
+        }
+        LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+        boolean direct = false;
+
+        for (int i = 0; i < relative.size(); i++) {
+            short packed = relative.getShort(i);
+            int x = SectionPos.sectionRelativeX(packed);
+            int y = SectionPos.sectionRelativeY(packed);
+            int z = SectionPos.sectionRelativeZ(packed);
+            pos.set(SectionPos.sectionToBlockCoord(sectionX, x), SectionPos.sectionToBlockCoord(sectionY, y), SectionPos.sectionToBlockCoord(sectionZ, z));
+
+            BlockState old = section.getBlockState(x, y, z);
+            if (!old.is(from)) {
+                continue;
+            }
+            BlockState next = to.withPropertiesOf(old);
+            if (!interchangeable(old, next, pos)) {
+                level.setBlock(pos, next, Block.UPDATE_ALL);
+                fallbackUpdates++;
+                blocksChanged++;
+                continue;
+            }
+
+            section.setBlockState(x, y, z, next);
+            // Queued on the chunk holder, which sends one ClientboundSectionBlocksUpdatePacket per section per tick
+            level.getChunkSource().blockChanged(pos);
+            direct = true;
+            blocksChanged++;
+
+            // Blocks inside the selection are being chiseled too, so only the outside needs to hear about it
+            for (Direction direction : DIRECTIONS) {
+                neighbour.setWithOffset(pos, direction);
+                if (!positions.contains(neighbour.asLong())) {
+                    level.updateNeighborsAt(pos, to);
+                    next.updateNeighbourShapes(level, pos, Block.UPDATE_CLIENTS);
+                    neighbourUpdates++;
+                    break;
+                }
+            }
+        }
+        if (direct) {
+            chunk.markUnsaved();
+        }
+        sectionsApplied++;
+    }
+
+    private boolean interchangeable(BlockState old, BlockState next, BlockPos pos) {
+        return plain(old) && plain(next)
+                && !old.isSignalSource() && !next.isSignalSource()
+                && !old.hasBlockEntity() && !next.hasBlockEntity()
+                && old.getValues().isEmpty() && next.getValues().isEmpty()
+                && PoiTypes.forState(old).isEmpty() && PoiTypes.forState(next).isEmpty()
+                && old.isSolidRender() && next.isSolidRender()
+                && old.is(BlockTags.LEAVES) == next.is(BlockTags.LEAVES)
+                && old.getLightEmission() == next.getLightEmission()
+                && old.getLightBlock() == next.getLightBlock()
+                && old.useShapeForLightOcclusion() == next.useShapeForLightOcclusion()
+                && old.blocksMotion() == next.blocksMotion()
+                && old.getFluidState().equals(next.getFluidState())
+                && old.isCollisionShapeFullBlock(level, pos) && next.isCollisionShapeFullBlock(level, pos);
+    }
+
+    // Blocks that override nothing, so writing them straight into the palette can't skip any behaviour
+    private static boolean plain(BlockState state) {
+        return state.getBlock().getClass() == Block.class;
+    }
+
+    public int blocksChanged() {
+        return blocksChanged;
+    }
+
+    public int sectionsApplied() {
+        return sectionsApplied;
+    }
+
+    public int fallbackUpdates() {
+        return fallbackUpdates;
+    }
+
+    public int neighbourUpdates() {
+        return neighbourUpdates;
+    }
+}
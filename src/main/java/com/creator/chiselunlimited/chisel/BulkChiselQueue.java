@@ -0,0 +1,47 @@
+package com.creator.chiselunlimited.chisel;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.Config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Spreads large bulk chisels over several server ticks, a fixed number of sections per tick.
+// Lives for one server run: started from onServerStarting and cleared when the server stops.
+public final class BulkChiselQueue {
+    private static final Deque<BulkChiselOperation> PENDING = new ArrayDeque<>();
+
+    private BulkChiselQueue() {
+    }
+
+    public static void start() {
+        PENDING.clear();
+    }
+
+    public static void stop() {
+        if (!PENDING.isEmpty()) {
+            ChiselUnlimited.LOGGER.warn("Dropping {} unfinished bulk chisel operations", PENDING.size());
+        }
+        PENDING.clear();
+    }
+
+    // Small operations finish right away, the rest continue on the following ticks
+    public static void submit(BulkChiselOperation operation) {
+        if (PENDING.isEmpty() && operation.pendingSections() <= Config.bulkChiselSectionsPerTick) {
+            operation.applyAll();
+            return;
+        }
+        PENDING.addLast(operation);
+    }
+
+    public static void tick() {
+        int budget = Config.bulkChiselSectionsPerTick;
+        while (budget > 0 && !PENDING.isEmpty()) {
+            BulkChiselOperation operation = PENDING.peekFirst();
+            budget -= operation.apply(budget);
+            if (operation.isDone()) {
+                PENDING.removeFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.creator.chiselunlimited.chisel;
+
+import com.creator.chiselunlimited.items.ChiselMode;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+// Collects the positions a chisel mode affects, as packed BlockPos longs.
+// Only blocks identical to the clicked one are selected, and never more than the limit.
+// AREA boxes too large to scan are rejected outright; callers check tooLarge first to tell the player.
+public final class ChiselSelection {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // An AREA box may be this many times the limit in volume, so sparse selections still work
+    private static final long AREA_SCAN_FACTOR = 16;
+
+    private ChiselSelection() {
+    }
+
+    // True when an AREA selection between anchor and origin would have to scan far more blocks than the limit
+    public static boolean tooLarge(ChiselMode mode, BlockPos origin, @Nullable BlockPos anchor, int limit) {
+        return mode == ChiselMode.AREA && anchor != null && volume(anchor, origin) > (long) limit * AREA_SCAN_FACTOR;
+    }
+
+    public static LongLinkedOpenHashSet collect(Level level, Player player, BlockPos origin, Direction face, ChiselMode mode, @Nullable BlockPos anchor, int limit) {
+        Block block = level.getBlockState(origin).getBlock();
+        LongLinkedOpenHashSet positions = new LongLinkedOpenHashSet();
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        switch (mode) {
+            case SINGLE -> add(level, player, block, origin, positions);
+            case PLANE -> {
+                Direction.Axis axis = face.getAxis();
+                for (int a = -1; a <= 1; a++) {
+                    for (int b = -1; b <= 1 && positions.size() < limit; b++) {
+                        switch (axis) {
+                            case X -> cursor.setWithOffset(origin, 0, a, b);
+                            case Y -> cursor.setWithOffset(origin, a, 0, b);
+                            case Z -> cursor.setWithOffset(origin, a, b, 0);
+                        }
+                        add(level, player, block, cursor, positions);
+                    }
+                }
+            }
+            case COLUMN -> {
+                add(level, player, block, origin, positions);
+                for (Direction direction : new Direction[]{Direction.UP, Direction.DOWN}) {
+                    cursor.set(origin);
+                    while (positions.size() < limit && add(level, player, block, cursor.move(direction), positions)) {
+                        // keep walking until the run ends
+                    }
+                }
+            }
+            case CONTIGUOUS -> {
+                LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+                if (add(level, player, block, origin, positions)) {
+                    queue.enqueue(origin.asLong());
+                }
+                while (!queue.isEmpty() && positions.size() < limit) {
+                    long current = queue.dequeueLong();
+                    for (Direction direction : DIRECTIONS) {
+                        cursor.set(current).move(direction);
+                        if (!positions.contains(cursor.asLong()) && add(level, player, block, cursor, positions)) {
+                            queue.enqueue(cursor.asLong());
+                            if (positions.size() >= limit) {
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            case AREA -> {
+                if (tooLarge(mode, origin, anchor, limit)) {
+                    break;
+                }
+                if (anchor == null) {
+                    add(level, player, block, origin, positions);
+                    break;
+                }
+                for (BlockPos pos : BlockPos.betweenClosed(anchor, origin)) {
+                    if (positions.size() >= limit) {
+                        break;
+                    }
+                    add(level, player, block, pos, positions);
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static long volume(BlockPos a, BlockPos b) {
+        return (long) (Math.abs(a.getX() - b.getX()) + 1) * (Math.abs(a.getY() - b.getY()) + 1) * (Math.abs(a.getZ() - b.getZ()) + 1);
+    }
+
+    private static boolean add(Level level, Player player, Block block, BlockPos pos, LongLinkedOpenHashSet positions) {
+        if (!level.isLoaded(pos) || !level.getBlockState(pos).is(block) || !level.mayInteract(player, pos)) {
+            return false;
+        }
+        positions.add(pos.asLong());
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.creator.chiselunlimited.client;
+
+import com.creator.chiselunlimited.client.gui.ChiselScreen;
+import com.creator.chiselunlimited.network.ChiselEffectsPacket;
+import com.creator.chiselunlimited.network.VariantPalette;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.variants.VariantLookup;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+// Client only entry points for common code. Only call these from behind a level.isClientSide check.
+public final class ClientHooks {
+    private ClientHooks() {
+    }
+
+    public static void openChiselScreen(InteractionHand hand, ItemStack chisel) {
+        Minecraft.getInstance().setScreen(new ChiselScreen(hand, chisel));
+    }
+
+    public static void openAutoChiselScreen(BlockPos machine, @Nullable Item target) {
+        Minecraft.getInstance().setScreen(new ChiselScreen(machine, target));
+    }
+
+    public static void playChiselEffects(ChiselEffectsPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        int entry = VariantPalette.toLocal(packet.group(), packet.index());
+        long[] positions = packet.positions();
+        if (level == null || entry == VariantLookup.NONE || positions.length == 0) {
+            return;
+        }
+        BlockState state = VariantGroups.variant(VariantLookup.group(entry), VariantLookup.index(entry)).defaultBlockState();
+        // The server already sampled large selections down to ChiselEffectsPacket.MAX_POSITIONS
+        for (long pos : positions) {
+            level.addDestroyBlockEffect(BlockPos.of(pos), state);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.creator.chiselunlimited.client.gui;
+
+import com.creator.chiselunlimited.items.ModDataComponents;
+import com.creator.chiselunlimited.network.ConfigureAutoChiselPacket;
+import com.creator.chiselunlimited.network.ModNetwork;
+import com.creator.chiselunlimited.network.SetChiselTargetPacket;
+import com.creator.chiselunlimited.network.VariantPalette;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.variants.VariantLookup;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.Mth;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+// Pick the variant a chisel turns blocks into. Filtering only runs when the search text changes,
+// and each frame draws just the current page from the catalog's prebuilt stacks.
+// Opened on an auto chisel it configures that machine's target instead of the held chisel.
+public class ChiselScreen extends Screen {
+    private static final int COLUMNS = 9;
+    private static final int ROWS = 6;
+    private static final int PAGE_SIZE = COLUMNS * ROWS;
+    private static final int SLOT = 18;
+
+    private final InteractionHand hand;
+    @Nullable
+    private final BlockPos machine;
+    @Nullable
+    private final Block initialTarget;
+    private int[] results = new int[0];
+    private int page;
+    private int selected = -1;
+    private int left;
+    private int top;
+    private Button previous;
+    private Button next;
+    // Survives init() so resizing the window keeps the typed query
+    private String query = "";
+
+    public ChiselScreen(InteractionHand hand, ItemStack chisel) {
+        this(hand, null, chisel.get(ModDataComponents.CHISEL_TARGET.get()));
+    }
+
+    public ChiselScreen(BlockPos machine, @Nullable Item target) {
+        this(InteractionHand.MAIN_HAND, machine, target == null ? null : Block.byItem(target));
+    }
+
+    private ChiselScreen(InteractionHand hand, @Nullable BlockPos machine, @Nullable Block initialTarget) {
+        super(Component.translatable("screen.chisel_unlimited.chisel"));
+        this.hand = hand;
+        this.machine = machine;
+        this.initialTarget = initialTarget;
+    }
+
+    @Override
+    protected void init() {
+        left = (width - COLUMNS * SLOT) / 2;
+        top = (height - ROWS * SLOT) / 2;
+
+        EditBox search = new EditBox(font, left, top - 22, COLUMNS * SLOT, 16, Component.translatable("screen.chisel_unlimited.search"));
+        search.setHint(Component.translatable("screen.chisel_unlimited.search"));
+        search.setValue(query);
+        search.setResponder(this::filter);
+        addRenderableWidget(search);
+        setInitialFocus(search);
+
+        previous = addRenderableWidget(Button.builder(Component.literal("<"), button -> setPage(page - 1))
+                .bounds(left, top + ROWS * SLOT + 4, 20, 20).build());
+        next = addRenderableWidget(Button.builder(Component.literal(">"), button -> setPage(page + 1))
+                .bounds(left + COLUMNS * SLOT - 20, top + ROWS * SLOT + 4, 20, 20).build());
+
+        List<VariantCatalog.Entry> entries = VariantCatalog.INSTANCE.entries();
+        int targetGroup = initialTarget == null ? VariantLookup.NONE : VariantGroups.groupOf(initialTarget);
+        int targetIndex = initialTarget == null ? VariantLookup.NONE : VariantGroups.indexOf(initialTarget);
+        for (int i = 0; i < entries.size() && targetGroup != VariantLookup.NONE && selected < 0; i++) {
+            if (entries.get(i).group() == targetGroup && entries.get(i).index() == targetIndex) {
+                selected = i;
+            }
+        }
+        filter(search.getValue());
+    }
+
+    private void filter(String query) {
+        this.query = query;
+        results = VariantCatalog.INSTANCE.index().search(query);
+        setPage(0);
+    }
+
+    private int pages() {
+        return Math.max(1, (results.length + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    private void setPage(int page) {
+        this.page = Mth.clamp(page, 0, pages() - 1);
+        previous.active = this.page > 0;
+        next.active = this.page < pages() - 1;
+    }
+
+    // Entry under the mouse on the current page, or -1
+    private int entryAt(double mouseX, double mouseY) {
+        int column = Mth.floor((mouseX - left) / SLOT);
+        int row = Mth.floor((mouseY - top) / SLOT);
+        if (column < 0 || column >= COLUMNS || row < 0 || row >= ROWS) {
+            return -1;
+        }
+        int slot = page * PAGE_SIZE + row * COLUMNS + column;
+        return slot < results.length ? results[slot] : -1;
+    }
+
+    @Override
+    public void render(GuiGraphics graphics, int mouseX, int mouseY, float partialTick) {
+        super.render(graphics, mouseX, mouseY, partialTick);
+        List<VariantCatalog.Entry> entries = VariantCatalog.INSTANCE.entries();
+        graphics.fill(left - 2, top - 2, left + COLUMNS * SLOT + 2, top + ROWS * SLOT + 2, 0xC0101010);
+
+        int first = page * PAGE_SIZE;
+        int last = Math.min(results.length, first + PAGE_SIZE);
+        for (int slot = first; slot < last; slot++) {
+            int x = left + (slot - first) % COLUMNS * SLOT;
+            int y = top + (slot - first) / COLUMNS * SLOT;
+            if (results[slot] == selected) {
+                graphics.fill(x, y, x + SLOT, y + SLOT, 0x8060C0A0);
+            }
+            graphics.renderItem(entries.get(results[slot]).stack(), x + 1, y + 1);
+        }
+        graphics.drawCenteredString(font, (page + 1) + " / " + pages(), width / 2, top + ROWS * SLOT + 10, 0xFFFFFF);
+
+        int hovered = entryAt(mouseX, mouseY);
+        if (hovered >= 0) {
+            graphics.renderTooltip(font, entries.get(hovered).stack(), mouseX, mouseY);
+        }
+    }
+
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        int clicked = entryAt(mouseX, mouseY);
+        if (clicked >= 0 && button == 0) {
+            VariantCatalog.Entry entry = VariantCatalog.INSTANCE.entries().get(clicked);
+            int server = VariantPalette.toServer(entry.group(), entry.index());
+            if (server != VariantLookup.NONE) {
+                selected = clicked;
+                send(VariantLookup.group(server), VariantLookup.index(server));
+            }
+            return true;
+        }
+        return super.mouseClicked(mouseX, mouseY, button);
+    }
+
+    // Indices are already in the server's numbering
+    private void send(int group, int index) {
+        if (machine != null) {
+            ModNetwork.CHANNEL.send(new ConfigureAutoChiselPacket(machine, group, index), PacketDistributor.SERVER.noArg());
+        } else {
+            ModNetwork.CHANNEL.send(new SetChiselTargetPacket(hand, group, index), PacketDistributor.SERVER.noArg());
+        }
+    }
+
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
+        if (scrollY != 0) {
+            setPage(page - (int) Math.signum(scrollY));
+            return true;
+        }
+        return super.mouseScrolled(mouseX, mouseY, scrollX, scrollY);
+    }
+
+    @Override
+    public boolean isPauseScreen() {
+        return false;
+    }
+}
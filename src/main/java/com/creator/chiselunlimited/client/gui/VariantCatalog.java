@@ -0,0 +1,57 @@
+package com.creator.chiselunlimited.client.gui;
+
+import com.creator.chiselunlimited.client.search.VariantSearchIndex;
+import com.creator.chiselunlimited.variants.VariantGroup;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Every chiselable variant with its display stack and a search index over the names, ready for the chisel screen.
+// Rebuilt after each resource reload so names follow the selected language; the screen never rebuilds anything.
+public final class VariantCatalog implements ResourceManagerReloadListener {
+    public static final VariantCatalog INSTANCE = new VariantCatalog();
+
+    private List<Entry> entries = List.of();
+    private VariantSearchIndex index = new VariantSearchIndex(new String[0]);
+
+    private VariantCatalog() {
+    }
+
+    @Override
+    public void onResourceManagerReload(ResourceManager resourceManager) {
+        List<Entry> built = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<VariantGroup> groups = VariantGroups.all();
+        for (int group = 0; group < VariantGroups.lookup().groupCount(); group++) {
+            for (int index = 0; index < VariantGroups.variantCount(group); index++) {
+                Item item = VariantGroups.variantItem(group, index);
+                if (item == Items.AIR) {
+                    continue;
+                }
+                ItemStack stack = new ItemStack(item);
+                built.add(new Entry(group, index, stack));
+                texts.add(stack.getHoverName().getString() + " " + BuiltInRegistries.ITEM.getKey(item).getPath() + " " + groups.get(group).id().getPath());
+            }
+        }
+        entries = List.copyOf(built);
+        index = new VariantSearchIndex(texts.toArray(String[]::new));
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    public VariantSearchIndex index() {
+        return index;
+    }
+
+    public record Entry(int group, int index, ItemStack stack) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.creator.chiselunlimited.client.model;
+
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.model.BakedModelWrapper;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.client.model.data.ModelProperty;
+import net.minecraftforge.client.model.pipeline.QuadBakingVertexConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+// Full cube whose faces join up with neighbouring blocks of the same type.
+// All 6 x 47 face states are baked up front and the quad lists are immutable, so chunk compile threads
+// share them freely; per block we only compute the packed connection states and look up cached ModelData.
+public class ConnectedTextureModel extends BakedModelWrapper<BakedModel> {
+    // Six 6-bit CtmLayout states, one per Direction.get3DDataValue()
+    public static final ModelProperty<Long> CONNECTIONS = new ModelProperty<>();
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // Texture right and up axes of each face, as seen from outside the block, indexed by get3DDataValue()
+    private static final Direction[] RIGHT = {Direction.EAST, Direction.EAST, Direction.WEST, Direction.EAST, Direction.SOUTH, Direction.NORTH};
+    private static final Direction[] UP = {Direction.SOUTH, Direction.NORTH, Direction.UP, Direction.UP, Direction.UP, Direction.UP};
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final Block block;
+    private final List<BakedQuad>[] quads;
+
+    public ConnectedTextureModel(BakedModel original, Block block, List<BakedQuad>[] quads) {
+        super(original);
+        this.block = block;
+        this.quads = quads;
+    }
+
+    // Bakes the quads for every face and state of one variant. Shared by all of the block's states.
+    @SuppressWarnings("unchecked")
+    public static List<BakedQuad>[] bakeQuads(TextureAtlasSprite base, TextureAtlasSprite sheet) {
+        List<BakedQuad>[] quads = new List[DIRECTIONS.length * CtmLayout.STATES];
+        for (Direction face : DIRECTIONS) {
+            for (int state = 0; state < CtmLayout.STATES; state++) {
+                BakedQuad[] faceQuads = new BakedQuad[4];
+                for (int quarter = 0; quarter < 4; quarter++) {
+                    faceQuads[quarter] = bakeQuarter(face, quarter, CtmLayout.tile(state, quarter), base, sheet);
+                }
+                quads[face.get3DDataValue() * CtmLayout.STATES + state] = List.of(faceQuads);
+            }
+        }
+        return quads;
+    }
+
+    private static BakedQuad bakeQuarter(Direction face, int quarter, int tile, TextureAtlasSprite base, TextureAtlasSprite sheet) {
+        Direction right = RIGHT[face.get3DDataValue()];
+        Direction up = UP[face.get3DDataValue()];
+        // Quarter bounds in face space, 0..1 left to right and top to bottom
+        float left = (quarter & 1) * 0.5F;
+        float top = (quarter >> 1) * 0.5F;
+
+        TextureAtlasSprite sprite = tile == CtmLayout.ISOLATED ? base : sheet;
+        float tileU = tile == CtmLayout.ISOLATED ? 0 : ((tile - 1) & 1) * 0.5F;
+        float tileV = tile == CtmLayout.ISOLATED ? 0 : ((tile - 1) >> 1) * 0.5F;
+        float scale = tile == CtmLayout.ISOLATED ? 1 : 0.5F;
+
+        QuadBakingVertexConsumer baker = new QuadBakingVertexConsumer();
+        baker.setSprite(sprite);
+        baker.setDirection(face);
+        baker.setTintIndex(-1);
+        baker.setShade(true);
+        // Counter-clockwise from outside: top left, bottom left, bottom right, top right
+        float[][] corners = {{left, top}, {left, top + 0.5F}, {left + 0.5F, top + 0.5F}, {left + 0.5F, top}};
+        for (float[] corner : corners) {
+            float x = 0.5F + face.getStepX() * 0.5F + right.getStepX() * (corner[0] - 0.5F) - up.getStepX() * (corner[1] - 0.5F);
+            float y = 0.5F + face.getStepY() * 0.5F + right.getStepY() * (corner[0] - 0.5F) - up.getStepY() * (corner[1] - 0.5F);
+            float z = 0.5F + face.getStepZ() * 0.5F + right.getStepZ() * (corner[0] - 0.5F) - up.getStepZ() * (corner[1] - 0.5F);
+            baker.addVertex(x, y, z)
+                    .setColor(-1)
+                    .setUv(sprite.getU(tileU + corner[0] * scale), sprite.getV(tileV + corner[1] * scale))
+                    .setNormal(face.getStepX(), face.getStepY(), face.getStepZ());
+        }
+        return baker.bakeQuad();
+    }
+
+    @Override
+    public @NotNull ModelData getModelData(@NotNull BlockAndTintGetter level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ModelData modelData) {
+        Scratch scratch = SCRATCH.get();
+        long connections = 0;
+        for (Direction face : DIRECTIONS) {
+            connections = withFace(connections, face.get3DDataValue(), connectionMask(level, pos, face, scratch.pos));
+        }
+        return scratch.modelData(connections);
+    }
+
+    // Folds one face's raw neighbour mask into the packed connection states
+    static long withFace(long connections, int face, int mask) {
+        return connections | (long) CtmLayout.state(mask) << (face * 6);
+    }
+
+    // Cached ModelData for a packed connection value, from the calling thread's cache
+    static ModelData modelData(long connections) {
+        return SCRATCH.get().modelData(connections);
+    }
+
+    // Builds the 8 bit neighbour mask for one face into a plain int, reusing the thread's mutable position
+    private int connectionMask(BlockAndTintGetter level, BlockPos pos, Direction face, BlockPos.MutableBlockPos cursor) {
+        // A face hidden behind another block of ours is culled anyway
+        if (level.getBlockState(cursor.setWithOffset(pos, face)).is(block)) {
+            return 0;
+        }
+        Direction right = RIGHT[face.get3DDataValue()];
+        Direction up = UP[face.get3DDataValue()];
+        int mask = 0;
+        for (int bit = 0; bit < 8; bit++) {
+            int dr = CtmLayout.NEIGHBOR_RIGHT[bit];
+            int du = CtmLayout.NEIGHBOR_UP[bit];
+            cursor.set(pos.getX() + right.getStepX() * dr + up.getStepX() * du,
+                    pos.getY() + right.getStepY() * dr + up.getStepY() * du,
+                    pos.getZ() + right.getStepZ() * dr + up.getStepZ() * du);
+            if (!level.getBlockState(cursor).is(block)) {
+                continue;
+            }
+            // Don't connect to a neighbour whose matching face is covered
+            if (!level.getBlockState(cursor.move(face)).is(block)) {
+                mask |= 1 << bit;
+            }
+        }
+        return mask;
+    }
+
+    @Override
+    public @NotNull List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @NotNull RandomSource rand, @NotNull ModelData data, @Nullable RenderType renderType) {
+        if (side == null) {
+            return List.of();
+        }
+        Long connections = data.get(CONNECTIONS);
+        int faceState = connections == null ? 0 : (int) (connections >>> (side.get3DDataValue() * 6)) & 63;
+        return quads[side.get3DDataValue() * CtmLayout.STATES + faceState];
+    }
+
+    @Override
+    public @NotNull List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @NotNull RandomSource rand) {
+        return getQuads(state, side, rand, ModelData.EMPTY, null);
+    }
+
+    // Per compile thread scratch space: a reusable cursor and a small direct-mapped cache of ModelData,
+    // since a build only ever produces a handful of distinct connection patterns
+    private static final class Scratch {
+        private static final int CACHE_SIZE = 256;
+
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        private final long[] keys = new long[CACHE_SIZE];
+        private final ModelData[] values = new ModelData[CACHE_SIZE];
+
+        ModelData modelData(long connections) {
+            if (connections == 0) {
+                return ModelData.EMPTY;
+            }
+            int slot = (int) (connections ^ connections >>> 29 ^ connections >>> 17) & (CACHE_SIZE - 1);
+            if (keys[slot] != connections || values[slot] == null) {
+                keys[slot] = connections;
+                values[slot] = ModelData.builder().with(CONNECTIONS, connections).build();
+            }
+            return values[slot];
+        }
+    }
+}
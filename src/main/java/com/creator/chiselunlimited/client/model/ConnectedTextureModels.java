@@ -0,0 +1,61 @@
+package com.creator.chiselunlimited.client.model;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.blocks.ModBlocks;
+import com.creator.chiselunlimited.variants.VariantGroup;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import net.minecraft.client.renderer.block.BlockModelShaper;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.Material;
+import net.minecraft.client.resources.model.ModelResourceLocation;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.event.ModelEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class ConnectedTextureModels {
+
+    private ConnectedTextureModels() {
+    }
+
+    // Wraps the baked model of every "connected" variant. Textures are <variant> for the isolated tile
+    // and <variant>_ctm for the 2x2 sheet of connected, horizontal, vertical and inner corner tiles.
+    public static void wrap(ModelEvent.ModifyBakingResult event) {
+        Map<ModelResourceLocation, BakedModel> models = event.getModels();
+        Function<Material, TextureAtlasSprite> textures = event.getTextureGetter();
+        int wrapped = 0;
+
+        List<VariantGroup> groups = VariantGroups.all();
+        for (int g = 0; g < groups.size(); g++) {
+            VariantGroup group = groups.get(g);
+            for (int i = 0; i < group.variants().size(); i++) {
+                String name = group.variants().get(i);
+                if (!group.connected().contains(name)) {
+                    continue;
+                }
+                Block block = ModBlocks.VARIANT_BLOCKS.get(g).get(i).get();
+                ResourceLocation texture = ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "block/" + name);
+                List<BakedQuad>[] quads = ConnectedTextureModel.bakeQuads(
+                        textures.apply(new Material(TextureAtlas.LOCATION_BLOCKS, texture)),
+                        textures.apply(new Material(TextureAtlas.LOCATION_BLOCKS, texture.withSuffix("_ctm"))));
+
+                for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                    ModelResourceLocation location = BlockModelShaper.stateToModelLocation(state);
+                    BakedModel original = models.get(location);
+                    if (original != null) {
+                        models.put(location, new ConnectedTextureModel(original, block, quads));
+                        wrapped++;
+                    }
+                }
+            }
+        }
+        ChiselUnlimited.LOGGER.debug("Wrapped {} connected texture models", wrapped);
+    }
+}
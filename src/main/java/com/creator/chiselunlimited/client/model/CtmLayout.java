@@ -0,0 +1,91 @@
+package com.creator.chiselunlimited.client.model;
+
+// Connected texture bookkeeping shared by the baked model and its benchmarks.
+// A face looks at its 8 in-plane neighbours; corners only matter when both adjacent edges connect,
+// which folds the 256 raw masks down to the usual 47 distinct states.
+// Each state is drawn as four quarter quads, each picking one of five tiles:
+// the isolated base texture, or one of the four quadrants of the 2x2 "_ctm" sheet.
+public final class CtmLayout {
+    public static final int STATES = 47;
+
+    public static final int UP = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int DOWN = 1 << 2;
+    public static final int LEFT = 1 << 3;
+    public static final int UP_RIGHT = 1 << 4;
+    public static final int DOWN_RIGHT = 1 << 5;
+    public static final int DOWN_LEFT = 1 << 6;
+    public static final int UP_LEFT = 1 << 7;
+
+    // Tiles, in "_ctm" sheet order after the base texture
+    public static final int ISOLATED = 0;
+    public static final int CONNECTED = 1;
+    public static final int HORIZONTAL = 2;
+    public static final int VERTICAL = 3;
+    public static final int INNER_CORNER = 4;
+
+    // In-plane offsets (right, up) of each mask bit
+    public static final int[] NEIGHBOR_RIGHT = {0, 1, 0, -1, 1, 1, -1, -1};
+    public static final int[] NEIGHBOR_UP = {1, 0, -1, 0, 1, -1, -1, 1};
+
+    private static final byte[] STATE_OF_MASK = new byte[256];
+    private static final int[] MASK_OF_STATE = new int[STATES];
+    private static final byte[] TILES = new byte[STATES * 4];
+
+    static {
+        int states = 0;
+        for (int mask = 0; mask < 256; mask++) {
+            if (canonical(mask) == mask) {
+                MASK_OF_STATE[states] = mask;
+                STATE_OF_MASK[mask] = (byte) states++;
+            }
+        }
+        if (states != STATES) {
+            throw new IllegalStateException("Expected " + STATES + " connected texture states, found " + states);
+        }
+        for (int mask = 0; mask < 256; mask++) {
+            STATE_OF_MASK[mask] = STATE_OF_MASK[canonical(mask)];
+        }
+        for (int state = 0; state < STATES; state++) {
+            for (int quarter = 0; quarter < 4; quarter++) {
+                TILES[state * 4 + quarter] = (byte) computeTile(MASK_OF_STATE[state], quarter);
+            }
+        }
+    }
+
+    private CtmLayout() {
+    }
+
+    // Drops corner bits whose two adjacent edges are not both connected
+    public static int canonical(int mask) {
+        if ((mask & (UP | RIGHT)) != (UP | RIGHT)) mask &= ~UP_RIGHT;
+        if ((mask & (DOWN | RIGHT)) != (DOWN | RIGHT)) mask &= ~DOWN_RIGHT;
+        if ((mask & (DOWN | LEFT)) != (DOWN | LEFT)) mask &= ~DOWN_LEFT;
+        if ((mask & (UP | LEFT)) != (UP | LEFT)) mask &= ~UP_LEFT;
+        return mask;
+    }
+
+    public static int state(int mask) {
+        return STATE_OF_MASK[mask & 0xFF];
+    }
+
+    // Tile for a quarter of the face: 0 top left, 1 top right, 2 bottom left, 3 bottom right
+    public static int tile(int state, int quarter) {
+        return TILES[state * 4 + quarter];
+    }
+
+    private static int computeTile(int mask, int quarter) {
+        boolean vertical = (mask & (quarter < 2 ? UP : DOWN)) != 0;
+        boolean horizontal = (mask & ((quarter & 1) == 0 ? LEFT : RIGHT)) != 0;
+        int corner = switch (quarter) {
+            case 0 -> UP_LEFT;
+            case 1 -> UP_RIGHT;
+            case 2 -> DOWN_LEFT;
+            default -> DOWN_RIGHT;
+        };
+        if (!vertical && !horizontal) return ISOLATED;
+        if (!vertical) return HORIZONTAL;
+        if (!horizontal) return VERTICAL;
+        return (mask & corner) != 0 ? CONNECTED : INNER_CORNER;
+    }
+}
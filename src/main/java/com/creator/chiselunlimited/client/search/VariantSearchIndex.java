@@ -0,0 +1,186 @@
+package com.creator.chiselunlimited.client.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Immutable search index over variant names, built once per resource reload.
+// Short tokens (1-2 characters) match word prefixes through a sorted word table, longer tokens intersect
+// trigram posting lists and then confirm the substring. Multiple tokens must all match.
+// Plain Java so it can be benchmarked and tested without the game.
+public final class VariantSearchIndex {
+    private final int size;
+    private final String[] texts;
+    private final String[] words;
+    private final int[] wordEntries;
+    private final long[] trigramKeys;
+    private final int[][] postings;
+    private final int[] all;
+
+    // texts[i] is everything entry i can be found by (display name, registry name, group name...)
+    public VariantSearchIndex(String[] texts) {
+        this.size = texts.length;
+        this.texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            this.texts[i] = normalize(texts[i]);
+        }
+        this.all = new int[size];
+        Arrays.setAll(all, i -> i);
+
+        // Word prefix table, sorted by word
+        List<long[]> wordRefs = new ArrayList<>();
+        List<String> wordList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            for (String word : this.texts[i].split(" ")) {
+                if (!word.isEmpty()) {
+                    wordRefs.add(new long[]{wordList.size(), i});
+                    wordList.add(word);
+                }
+            }
+        }
+        wordRefs.sort((a, b) -> wordList.get((int) a[0]).compareTo(wordList.get((int) b[0])));
+        this.words = new String[wordRefs.size()];
+        this.wordEntries = new int[wordRefs.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = wordList.get((int) wordRefs.get(i)[0]);
+            wordEntries[i] = (int) wordRefs.get(i)[1];
+        }
+
+        // Trigram postings: sort (trigram, entry) pairs, then split into per trigram runs
+        List<long[]> pairs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String text = this.texts[i];
+            for (int c = 0; c + 3 <= text.length(); c++) {
+                pairs.add(new long[]{trigram(text, c), i});
+            }
+        }
+        pairs.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        List<Long> keys = new ArrayList<>();
+        List<int[]> lists = new ArrayList<>();
+        int start = 0;
+        while (start < pairs.size()) {
+            long key = pairs.get(start)[0];
+            int end = start;
+            int[] entries = new int[0];
+            int count = 0;
+            while (end < pairs.size() && pairs.get(end)[0] == key) {
+                int entry = (int) pairs.get(end)[1];
+                if (count == 0 || entries[count - 1] != entry) {
+                    if (count == entries.length) {
+                        entries = Arrays.copyOf(entries, Math.max(4, count * 2));
+                    }
+                    entries[count++] = entry;
+                }
+                end++;
+            }
+            keys.add(key);
+            lists.add(Arrays.copyOf(entries, count));
+            start = end;
+        }
+        this.trigramKeys = keys.stream().mapToLong(Long::longValue).toArray();
+        this.postings = lists.toArray(int[][]::new);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Matching entry ids in ascending order. An empty query matches everything.
+    public int[] search(String query) {
+        int[] result = all;
+        for (String token : normalize(query).split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            int[] matches = token.length() < 3 ? prefixMatches(token) : substringMatches(token);
+            result = result == all ? matches : intersect(result, matches);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private int[] prefixMatches(String prefix) {
+        int from = lowerBound(prefix);
+        boolean[] seen = new boolean[size];
+        int count = 0;
+        for (int i = from; i < words.length && words[i].startsWith(prefix); i++) {
+            if (!seen[wordEntries[i]]) {
+                seen[wordEntries[i]] = true;
+                count++;
+            }
+        }
+        int[] matches = new int[count];
+        int n = 0;
+        for (int i = 0; i < size && n < count; i++) {
+            if (seen[i]) {
+                matches[n++] = i;
+            }
+        }
+        return matches;
+    }
+
+    private int[] substringMatches(String token) {
+        int[] candidates = null;
+        for (int c = 0; c + 3 <= token.length(); c++) {
+            int slot = Arrays.binarySearch(trigramKeys, trigram(token, c));
+            if (slot < 0) {
+                return new int[0];
+            }
+            candidates = candidates == null ? postings[slot] : intersect(candidates, postings[slot]);
+            if (candidates.length == 0) {
+                return candidates;
+            }
+        }
+        // Trigrams can all be present without being adjacent, so confirm the actual substring
+        int[] matches = new int[candidates.length];
+        int n = 0;
+        for (int entry : candidates) {
+            if (texts[entry].contains(token)) {
+                matches[n++] = entry;
+            }
+        }
+        return Arrays.copyOf(matches, n);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (words[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static long trigram(String text, int offset) {
+        return (long) text.charAt(offset) << 32 | (long) text.charAt(offset + 1) << 16 | text.charAt(offset + 2);
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replace('_', ' ').trim();
+    }
+}
@@ -0,0 +1,28 @@
+package com.creator.chiselunlimited.datagen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import net.minecraft.data.DataGenerator;
+import net.minecraft.data.PackOutput;
+import net.minecraftforge.data.event.GatherDataEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.List;
+
+// Run with the "runData" Gradle task; output goes to src/generated/resources
+@Mod.EventBusSubscriber(modid = ChiselUnlimited.MOD_ID, bus = Mod.EventBusSubscriber.Bus.MOD)
+public class DataGenerators {
+
+    @SubscribeEvent
+    public static void gatherData(GatherDataEvent event) {
+        DataGenerator generator = event.getGenerator();
+        PackOutput output = generator.getPackOutput();
+
+        generator.addProvider(event.includeClient(), new ParallelDataProvider("Chisel Unlimited assets", List.of(
+                new VariantModelProvider(output),
+                new VariantLangProvider(output))));
+        generator.addProvider(event.includeServer(), new ParallelDataProvider("Chisel Unlimited data", List.of(
+                new VariantLootProvider(output),
+                new VariantTagProvider(output))));
+    }
+}
@@ -0,0 +1,30 @@
+package com.creator.chiselunlimited.datagen;
+
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+// The DataGenerator runs its providers one after another. Ours don't depend on each other,
+// so they are added as a single provider that starts all of them at once.
+class ParallelDataProvider implements DataProvider {
+    private final String name;
+    private final List<DataProvider> providers;
+
+    ParallelDataProvider(String name, List<DataProvider> providers) {
+        this.name = name + " [" + providers.stream().map(DataProvider::getName).collect(Collectors.joining(", ")) + "]";
+        this.providers = List.copyOf(providers);
+    }
+
+    @Override
+    public CompletableFuture<?> run(CachedOutput cache) {
+        return CompletableFuture.allOf(providers.stream().map(provider -> provider.run(cache)).toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,48 @@
+package com.creator.chiselunlimited.datagen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.variants.VariantGroup;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.google.gson.JsonElement;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+// Base for our generators: subclasses emit (path, json) pairs and every file is saved concurrently.
+// CachedOutput hashes each file against the previous run's .cache, so unchanged files are never rewritten.
+abstract class VariantJsonProvider implements DataProvider {
+    // Ore blocks placed by worldgen; both drop raw alexandrite
+    protected static final List<ResourceLocation> ORES = List.of(
+            ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "alexandrite_ore"),
+            ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "deepslate_alexandrite_ore"));
+
+    protected final PackOutput output;
+
+    protected VariantJsonProvider(PackOutput output) {
+        this.output = output;
+    }
+
+    protected abstract void generate(BiConsumer<Path, JsonElement> files);
+
+    @Override
+    public CompletableFuture<?> run(CachedOutput cache) {
+        List<CompletableFuture<?>> saves = new ArrayList<>();
+        generate((path, json) -> saves.add(DataProvider.saveStable(cache, json, path)));
+        return CompletableFuture.allOf(saves.toArray(CompletableFuture[]::new));
+    }
+
+    protected static void forEachVariant(BiConsumer<VariantGroup, ResourceLocation> action) {
+        for (VariantGroup group : VariantGroups.all()) {
+            for (String variant : group.variants()) {
+                action.accept(group, ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, variant));
+            }
+        }
+    }
+}
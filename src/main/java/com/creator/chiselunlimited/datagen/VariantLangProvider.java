@@ -0,0 +1,71 @@
+package com.creator.chiselunlimited.datagen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.items.ChiselMode;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+// en_us names. Variants get their registry name in title case ("alexandrite_bricks" -> "Alexandrite Bricks")
+// unless NAMES has a hand-picked name for them
+class VariantLangProvider extends VariantJsonProvider {
+    // Names that don't follow the title case rule, by registry path
+    private static final Map<String, String> NAMES = Map.of(
+            "alexandrite_block", "Block of Alexandrite");
+
+    private final PackOutput.PathProvider lang;
+
+    VariantLangProvider(PackOutput output) {
+        super(output);
+        this.lang = output.createPathProvider(PackOutput.Target.RESOURCE_PACK, "lang");
+    }
+
+    @Override
+    protected void generate(BiConsumer<Path, JsonElement> files) {
+        JsonObject json = new JsonObject();
+        json.addProperty("item.chisel_unlimited.alexandrite", "Alexandrite Gem");
+        json.addProperty("item.chisel_unlimited.raw_alexandrite", "Raw Alexandrite");
+        json.addProperty("item.chisel_unlimited.chisel", "Chisel");
+        for (ChiselMode mode : ChiselMode.values()) {
+            json.addProperty(mode.translationKey(), titleCase(mode.getSerializedName()));
+        }
+        json.addProperty("message.chisel_unlimited.mode", "Chisel mode: %s");
+        json.addProperty("message.chisel_unlimited.anchor", "Area anchor set to %s, %s, %s");
+        json.addProperty("message.chisel_unlimited.area_too_large", "Area is too large, move the anchor closer (limit %s blocks)");
+        json.addProperty("screen.chisel_unlimited.chisel", "Chisel");
+        json.addProperty("screen.chisel_unlimited.search", "Search variants...");
+        json.addProperty("block.chisel_unlimited.auto_chisel", "Auto Chisel");
+        json.addProperty("message.chisel_unlimited.auto_chisel.target", "Auto chisel target: %s");
+        json.addProperty("message.chisel_unlimited.auto_chisel.no_target", "No target set. Right click with a variant to choose one.");
+        json.addProperty("commands.chisel_unlimited.pregen.started", "Pregenerating %s chunks with the ore feature on, then off");
+        json.addProperty("commands.chisel_unlimited.pregen.busy", "A pregen benchmark is already running");
+        json.addProperty("commands.chisel_unlimited.pregen.result", "Ore feature %s: %s chunks in %s s (%s chunks/s), %s failed, %s of %s sections skipped by palette");
+        json.addProperty("commands.chisel_unlimited.pregen.on", "on");
+        json.addProperty("commands.chisel_unlimited.pregen.off", "off");
+        ORES.forEach(ore -> json.addProperty(ore.toLanguageKey("block"), name(ore.getPath())));
+        forEachVariant((group, id) -> json.addProperty(id.toLanguageKey("block"), name(id.getPath())));
+        files.accept(lang.json(ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "en_us")), json);
+    }
+
+    static String name(String path) {
+        return NAMES.getOrDefault(path, titleCase(path));
+    }
+
+    static String titleCase(String path) {
+        return Arrays.stream(path.split("_"))
+                .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
+                .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public String getName() {
+        return "Variant lang";
+    }
+}
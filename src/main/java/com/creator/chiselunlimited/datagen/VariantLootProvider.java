@@ -0,0 +1,124 @@
+package com.creator.chiselunlimited.datagen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+
+// Every variant, and the auto chisel, drops itself. Ores drop raw alexandrite unless mined with silk touch.
+class VariantLootProvider extends VariantJsonProvider {
+    private final PackOutput.PathProvider lootTables;
+
+    VariantLootProvider(PackOutput output) {
+        super(output);
+        this.lootTables = output.createPathProvider(PackOutput.Target.DATA_PACK, "loot_table");
+    }
+
+    @Override
+    protected void generate(BiConsumer<Path, JsonElement> files) {
+        forEachVariant((group, id) -> files.accept(lootTables.json(id.withPrefix("blocks/")), dropSelf(id)));
+        ResourceLocation autoChisel = ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "auto_chisel");
+        files.accept(lootTables.json(autoChisel.withPrefix("blocks/")), dropSelf(autoChisel));
+        ResourceLocation raw = ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "raw_alexandrite");
+        ORES.forEach(ore -> files.accept(lootTables.json(ore.withPrefix("blocks/")), oreDrops(ore, raw)));
+    }
+
+    // Same shape as vanilla's diamond ore: silk touch drops the block, otherwise fortune boosted raw drops
+    static JsonObject oreDrops(ResourceLocation ore, ResourceLocation drop) {
+        JsonObject enchantment = new JsonObject();
+        enchantment.addProperty("enchantments", "minecraft:silk_touch");
+        JsonObject levels = new JsonObject();
+        levels.addProperty("min", 1);
+        enchantment.add("levels", levels);
+        JsonArray enchantments = new JsonArray();
+        enchantments.add(enchantment);
+        JsonObject predicates = new JsonObject();
+        predicates.add("minecraft:enchantments", enchantments);
+        JsonObject predicate = new JsonObject();
+        predicate.add("predicates", predicates);
+        JsonObject silkTouch = new JsonObject();
+        silkTouch.addProperty("condition", "minecraft:match_tool");
+        silkTouch.add("predicate", predicate);
+        JsonArray silkTouchConditions = new JsonArray();
+        silkTouchConditions.add(silkTouch);
+
+        JsonObject self = new JsonObject();
+        self.addProperty("type", "minecraft:item");
+        self.add("conditions", silkTouchConditions);
+        self.addProperty("name", ore.toString());
+
+        JsonObject fortune = new JsonObject();
+        fortune.addProperty("function", "minecraft:apply_bonus");
+        fortune.addProperty("enchantment", "minecraft:fortune");
+        fortune.addProperty("formula", "minecraft:ore_drops");
+        JsonObject decay = new JsonObject();
+        decay.addProperty("function", "minecraft:explosion_decay");
+        JsonArray functions = new JsonArray();
+        functions.add(fortune);
+        functions.add(decay);
+
+        JsonObject raw = new JsonObject();
+        raw.addProperty("type", "minecraft:item");
+        raw.add("functions", functions);
+        raw.addProperty("name", drop.toString());
+
+        JsonArray children = new JsonArray();
+        children.add(self);
+        children.add(raw);
+        JsonObject alternatives = new JsonObject();
+        alternatives.addProperty("type", "minecraft:alternatives");
+        alternatives.add("children", children);
+        JsonArray entries = new JsonArray();
+        entries.add(alternatives);
+
+        JsonObject pool = new JsonObject();
+        pool.addProperty("rolls", 1.0F);
+        pool.addProperty("bonus_rolls", 0.0F);
+        pool.add("entries", entries);
+        JsonArray pools = new JsonArray();
+        pools.add(pool);
+
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "minecraft:block");
+        json.add("pools", pools);
+        json.addProperty("random_sequence", ore.withPrefix("blocks/").toString());
+        return json;
+    }
+
+    static JsonObject dropSelf(ResourceLocation id) {
+        JsonObject entry = new JsonObject();
+        entry.addProperty("type", "minecraft:item");
+        entry.addProperty("name", id.toString());
+        JsonArray entries = new JsonArray();
+        entries.add(entry);
+
+        JsonObject condition = new JsonObject();
+        condition.addProperty("condition", "minecraft:survives_explosion");
+        JsonArray conditions = new JsonArray();
+        conditions.add(condition);
+
+        JsonObject pool = new JsonObject();
+        pool.addProperty("rolls", 1.0F);
+        pool.addProperty("bonus_rolls", 0.0F);
+        pool.add("entries", entries);
+        pool.add("conditions", conditions);
+        JsonArray pools = new JsonArray();
+        pools.add(pool);
+
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "minecraft:block");
+        json.add("pools", pools);
+        json.addProperty("random_sequence", id.withPrefix("blocks/").toString());
+        return json;
+    }
+
+    @Override
+    public String getName() {
+        return "Variant loot tables";
+    }
+}
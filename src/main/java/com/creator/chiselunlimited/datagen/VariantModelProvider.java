@@ -0,0 +1,90 @@
+package com.creator.chiselunlimited.datagen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+// Blockstates, block models and client item definitions for every variant, the ores and the auto chisel.
+// Variant items point straight at their block model instead of getting a duplicate models/item file.
+class VariantModelProvider extends VariantJsonProvider {
+    // Plain items that still have hand-written models/item files
+    private static final List<String> ITEMS = List.of("alexandrite", "raw_alexandrite", "chisel");
+
+    private final PackOutput.PathProvider blockStates;
+    private final PackOutput.PathProvider models;
+    private final PackOutput.PathProvider items;
+
+    VariantModelProvider(PackOutput output) {
+        super(output);
+        this.blockStates = output.createPathProvider(PackOutput.Target.RESOURCE_PACK, "blockstates");
+        this.models = output.createPathProvider(PackOutput.Target.RESOURCE_PACK, "models");
+        this.items = output.createPathProvider(PackOutput.Target.RESOURCE_PACK, "items");
+    }
+
+    @Override
+    protected void generate(BiConsumer<Path, JsonElement> files) {
+        forEachVariant((group, id) -> {
+            ResourceLocation model = id.withPrefix("block/");
+            files.accept(blockStates.json(id), blockState(model));
+            files.accept(models.json(model), cubeAll(model));
+            files.accept(items.json(id), itemDefinition(model));
+        });
+
+        for (ResourceLocation ore : ORES) {
+            ResourceLocation model = ore.withPrefix("block/");
+            files.accept(blockStates.json(ore), blockState(model));
+            files.accept(models.json(model), cubeAll(model));
+            files.accept(items.json(ore), itemDefinition(model));
+        }
+
+        ResourceLocation autoChisel = ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "auto_chisel");
+        ResourceLocation autoChiselModel = autoChisel.withPrefix("block/");
+        files.accept(blockStates.json(autoChisel), blockState(autoChiselModel));
+        files.accept(models.json(autoChiselModel), cubeAll(autoChiselModel));
+        files.accept(items.json(autoChisel), itemDefinition(autoChiselModel));
+
+        for (String item : ITEMS) {
+            files.accept(items.json(ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, item)),
+                    itemDefinition(ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "item/" + item)));
+        }
+    }
+
+    private static JsonObject blockState(ResourceLocation model) {
+        JsonObject variant = new JsonObject();
+        variant.addProperty("model", model.toString());
+        JsonObject variants = new JsonObject();
+        variants.add("", variant);
+        JsonObject json = new JsonObject();
+        json.add("variants", variants);
+        return json;
+    }
+
+    private static JsonObject cubeAll(ResourceLocation texture) {
+        JsonObject textures = new JsonObject();
+        textures.addProperty("all", texture.toString());
+        JsonObject json = new JsonObject();
+        json.addProperty("parent", "minecraft:block/cube_all");
+        json.add("textures", textures);
+        return json;
+    }
+
+    private static JsonObject itemDefinition(ResourceLocation model) {
+        JsonObject reference = new JsonObject();
+        reference.addProperty("type", "minecraft:model");
+        reference.addProperty("model", model.toString());
+        JsonObject json = new JsonObject();
+        json.add("model", reference);
+        return json;
+    }
+
+    @Override
+    public String getName() {
+        return "Variant models";
+    }
+}
@@ -0,0 +1,63 @@
+package com.creator.chiselunlimited.datagen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.variants.VariantGroup;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// Mining tags for all variants and ores, plus one block and item tag per group (chisel_unlimited:variants/<group>)
+// so recipes and other mods can refer to a whole group
+class VariantTagProvider extends VariantJsonProvider {
+    private final PackOutput.PathProvider blockTags;
+    private final PackOutput.PathProvider itemTags;
+
+    VariantTagProvider(PackOutput output) {
+        super(output);
+        this.blockTags = output.createPathProvider(PackOutput.Target.DATA_PACK, "tags/block");
+        this.itemTags = output.createPathProvider(PackOutput.Target.DATA_PACK, "tags/item");
+    }
+
+    @Override
+    protected void generate(BiConsumer<Path, JsonElement> files) {
+        JsonArray mineable = new JsonArray();
+        Map<VariantGroup, JsonArray> groups = new LinkedHashMap<>();
+        ORES.forEach(ore -> mineable.add(ore.toString()));
+        forEachVariant((group, id) -> {
+            mineable.add(id.toString());
+            groups.computeIfAbsent(group, g -> {
+                JsonArray members = new JsonArray();
+                g.includes().forEach(include -> members.add(include.toString()));
+                return members;
+            }).add(id.toString());
+        });
+
+        files.accept(blockTags.json(ResourceLocation.withDefaultNamespace("needs_iron_tool")), tag(mineable.deepCopy()));
+        mineable.add(ChiselUnlimited.MOD_ID + ":auto_chisel");
+        files.accept(blockTags.json(ResourceLocation.withDefaultNamespace("mineable/pickaxe")), tag(mineable));
+        groups.forEach((group, members) -> {
+            ResourceLocation id = group.id().withPrefix("variants/");
+            files.accept(blockTags.json(id), tag(members));
+            files.accept(itemTags.json(id), tag(members));
+        });
+    }
+
+    private static JsonObject tag(JsonArray values) {
+        JsonObject json = new JsonObject();
+        json.addProperty("replace", false);
+        json.add("values", values);
+        return json;
+    }
+
+    @Override
+    public String getName() {
+        return "Variant tags";
+    }
+}
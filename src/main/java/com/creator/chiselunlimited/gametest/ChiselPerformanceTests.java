@@ -0,0 +1,125 @@
+package com.creator.chiselunlimited.gametest;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.blocks.ModBlocks;
+import com.creator.chiselunlimited.chisel.BulkChiselOperation;
+import com.creator.chiselunlimited.chisel.ChiselSelection;
+import com.creator.chiselunlimited.items.ChiselMode;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import net.minecraftforge.registries.RegistryObject;
+
+// Checks the chisel hot paths against the deterministic limits in PerformanceBudgets (sections touched,
+// neighbour updates) and logs their timings. Wall clock time depends on the machine and JIT state, so it is
+// only reported here; regressions in raw speed are caught by the JMH benchmarks.
+// Run with the "runGameTestServer" Gradle task.
+@GameTestHolder(ChiselUnlimited.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class ChiselPerformanceTests {
+    private static final String WALL = "empty_wall";
+    private static final int WALL_WIDTH = 32;
+    private static final int WALL_HEIGHT = 16;
+    // Three thick so the middle layer has blocks with no outside neighbour, which must not send neighbour updates
+    private static final int WALL_DEPTH = 3;
+    private static final int LOOKUPS = 1_000_000;
+
+    @GameTest(template = WALL)
+    public static void variantLookupRoundTrips(GameTestHelper helper) {
+        Block[] blocks = ModBlocks.VARIANT_BLOCKS.get(0).stream().map(RegistryObject::get).toArray(Block[]::new);
+        int expectedGroup = VariantGroups.groupOf(blocks[0]);
+
+        // Warm up, then time
+        int sink = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sink += VariantGroups.indexOf(blocks[i % blocks.length]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            Block block = blocks[i % blocks.length];
+            sink += VariantGroups.groupOf(block) + VariantGroups.indexOf(block);
+        }
+        long nsPerQuery = (System.nanoTime() - start) / (LOOKUPS * 2L);
+
+        for (int i = 0; i < blocks.length; i++) {
+            helper.assertTrue(VariantGroups.groupOf(blocks[i]) == expectedGroup, "Variant " + i + " is not in its group");
+            helper.assertTrue(VariantGroups.variant(expectedGroup, VariantGroups.indexOf(blocks[i])) == blocks[i], "Variant " + i + " does not round trip");
+        }
+        report("variant lookup", nsPerQuery + " ns per query");
+        // Consume the result so the timed loop cannot be optimised away
+        helper.assertTrue(sink != Integer.MIN_VALUE, "Lookup checksum overflowed");
+        helper.succeed();
+    }
+
+    @GameTest(template = WALL)
+    public static void bulkChiselWallWithinBudget(GameTestHelper helper) {
+        Block from = ModBlocks.VARIANT_BLOCKS.get(0).get(0).get();
+        Block to = ModBlocks.VARIANT_BLOCKS.get(0).get(1).get();
+        LongLinkedOpenHashSet positions = buildWall(helper, from);
+
+        long start = System.nanoTime();
+        BulkChiselOperation operation = new BulkChiselOperation(helper.getLevel(), from, to, positions);
+        operation.applyAll();
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+
+        helper.assertTrue(operation.blocksChanged() == positions.size(), "Changed " + operation.blocksChanged() + " of " + positions.size() + " blocks");
+        helper.assertTrue(operation.fallbackUpdates() == 0, operation.fallbackUpdates() + " blocks fell back to setBlock");
+        report("bulk chisel wall", millis + " ms");
+        assertWithinBudget(helper, "bulk_chisel_wall_sections", operation.sectionsApplied());
+        assertWithinBudget(helper, "bulk_chisel_wall_neighbour_updates", operation.neighbourUpdates());
+        for (int x = 0; x < WALL_WIDTH; x++) {
+            for (int y = 0; y < WALL_HEIGHT; y++) {
+                for (int z = 0; z < WALL_DEPTH; z++) {
+                    helper.assertBlockPresent(to, new BlockPos(1 + x, 1 + y, 1 + z));
+                }
+            }
+        }
+        helper.succeed();
+    }
+
+    @GameTest(template = WALL)
+    public static void contiguousSelectionFindsWall(GameTestHelper helper) {
+        Block block = ModBlocks.VARIANT_BLOCKS.get(0).get(0).get();
+        LongLinkedOpenHashSet wall = buildWall(helper, block);
+
+        long start = System.nanoTime();
+        LongLinkedOpenHashSet selected = ChiselSelection.collect(helper.getLevel(), helper.makeMockPlayer(GameType.CREATIVE),
+                helper.absolutePos(new BlockPos(1, 1, 1)), Direction.NORTH, ChiselMode.CONTIGUOUS, null, Integer.MAX_VALUE);
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+
+        helper.assertTrue(selected.equals(wall), "Flood fill selected " + selected.size() + " of " + wall.size() + " blocks");
+        report("contiguous selection", millis + " ms");
+        helper.succeed();
+    }
+
+    // A wall in the x/y plane, WALL_DEPTH blocks thick, returned as absolute packed positions
+    private static LongLinkedOpenHashSet buildWall(GameTestHelper helper, Block block) {
+        LongLinkedOpenHashSet positions = new LongLinkedOpenHashSet();
+        for (int x = 0; x < WALL_WIDTH; x++) {
+            for (int y = 0; y < WALL_HEIGHT; y++) {
+                for (int z = 0; z < WALL_DEPTH; z++) {
+                    BlockPos pos = new BlockPos(1 + x, 1 + y, 1 + z);
+                    helper.setBlock(pos, block);
+                    positions.add(helper.absolutePos(pos).asLong());
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static void report(String test, String timing) {
+        ChiselUnlimited.LOGGER.info("Chisel performance test {}: {}", test, timing);
+    }
+
+    private static void assertWithinBudget(GameTestHelper helper, String budget, long actual) {
+        long limit = PerformanceBudgets.get(budget);
+        helper.assertTrue(actual <= limit, budget + " exceeded: " + actual + " > " + limit);
+    }
+}
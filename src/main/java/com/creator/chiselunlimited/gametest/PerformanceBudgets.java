@@ -0,0 +1,34 @@
+package com.creator.chiselunlimited.gametest;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.minecraft.util.GsonHelper;
+import net.minecraftforge.fml.ModList;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Deterministic limits the performance GameTests are held to, from data/chisel_unlimited/gametest/budgets.json.
+// Raise a number there only together with the change that justifies it.
+final class PerformanceBudgets {
+    private static JsonObject budgets;
+
+    private PerformanceBudgets() {
+    }
+
+    static long get(String name) {
+        if (budgets == null) {
+            Path file = ModList.get().getModFileById(ChiselUnlimited.MOD_ID).getFile().findResource("data", ChiselUnlimited.MOD_ID, "gametest", "budgets.json");
+            try (Reader reader = Files.newBufferedReader(file)) {
+                budgets = JsonParser.parseReader(reader).getAsJsonObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read performance budgets from " + file, e);
+            }
+        }
+        return GsonHelper.getAsLong(budgets, name);
+    }
+}
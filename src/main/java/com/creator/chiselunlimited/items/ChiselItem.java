@@ -0,0 +1,113 @@
+package com.creator.chiselunlimited.items;
+
+import com.creator.chiselunlimited.Config;
+import com.creator.chiselunlimited.chisel.BulkChiselOperation;
+import com.creator.chiselunlimited.chisel.BulkChiselQueue;
+import com.creator.chiselunlimited.chisel.ChiselSelection;
+import com.creator.chiselunlimited.client.ClientHooks;
+import com.creator.chiselunlimited.network.ChiselEffectsPacket;
+import com.creator.chiselunlimited.network.ModNetwork;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.variants.VariantLookup;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.network.PacketDistributor;
+
+// Right click a block to chisel it (and whatever the current mode selects) into the chosen target variant,
+// or into the next variant of its group when the target belongs to another group.
+// Right click in the air opens the variant picker, sneak + right click in the air cycles the mode
+// and sneak + right click a block sets the AREA anchor.
+public class ChiselItem extends Item {
+
+    public ChiselItem(Properties properties) {
+        super(properties);
+    }
+
+    public static ChiselMode getMode(ItemStack stack) {
+        return stack.getOrDefault(ModDataComponents.CHISEL_MODE.get(), ChiselMode.SINGLE);
+    }
+
+    @Override
+    public InteractionResult use(Level level, Player player, InteractionHand hand) {
+        ItemStack stack = player.getItemInHand(hand);
+        if (!player.isShiftKeyDown()) {
+            if (level.isClientSide) {
+                ClientHooks.openChiselScreen(hand, stack);
+            }
+            return InteractionResult.SUCCESS;
+        }
+        if (!level.isClientSide) {
+            ChiselMode mode = getMode(stack).next();
+            stack.set(ModDataComponents.CHISEL_MODE.get(), mode);
+            player.displayClientMessage(Component.translatable("message.chisel_unlimited.mode", Component.translatable(mode.translationKey())), true);
+        }
+        return InteractionResult.SUCCESS;
+    }
+
+    @Override
+    public InteractionResult useOn(UseOnContext context) {
+        Level level = context.getLevel();
+        Player player = context.getPlayer();
+        BlockPos pos = context.getClickedPos();
+        ItemStack stack = context.getItemInHand();
+        Block block = level.getBlockState(pos).getBlock();
+
+        if (player != null && player.isShiftKeyDown() && getMode(stack) == ChiselMode.AREA) {
+            if (!level.isClientSide) {
+                stack.set(ModDataComponents.CHISEL_ANCHOR.get(), pos.immutable());
+                player.displayClientMessage(Component.translatable("message.chisel_unlimited.anchor", pos.getX(), pos.getY(), pos.getZ()), true);
+            }
+            return InteractionResult.SUCCESS;
+        }
+
+        int group = VariantGroups.groupOf(block);
+        if (group == VariantLookup.NONE || player == null) {
+            return InteractionResult.PASS;
+        }
+        if (level instanceof ServerLevel serverLevel) {
+            Block target = target(stack, block, group);
+            chisel(serverLevel, player, stack, pos, context, block, target);
+        }
+        return InteractionResult.SUCCESS;
+    }
+
+    private static Block target(ItemStack stack, Block block, int group) {
+        Block target = stack.get(ModDataComponents.CHISEL_TARGET.get());
+        if (target != null && target != block && VariantGroups.groupOf(target) == group) {
+            return target;
+        }
+        return VariantGroups.variant(group, (VariantGroups.indexOf(block) + 1) % VariantGroups.variantCount(group));
+    }
+
+    private static void chisel(ServerLevel level, Player player, ItemStack stack, BlockPos pos, UseOnContext context, Block from, Block to) {
+        ChiselMode mode = getMode(stack);
+        BlockPos anchor = stack.get(ModDataComponents.CHISEL_ANCHOR.get());
+        if (ChiselSelection.tooLarge(mode, pos, anchor, Config.maxBulkChiselBlocks)) {
+            player.displayClientMessage(Component.translatable("message.chisel_unlimited.area_too_large", Config.maxBulkChiselBlocks), true);
+            return;
+        }
+        LongLinkedOpenHashSet positions = ChiselSelection.collect(level, player, pos, context.getClickedFace(), mode, anchor, Config.maxBulkChiselBlocks);
+        if (positions.isEmpty()) {
+            return;
+        }
+        BulkChiselQueue.submit(new BulkChiselOperation(level, from, to, positions));
+        // Particles show the block being chiselled away; the variant goes out in the server palette numbering
+        ModNetwork.CHANNEL.send(ChiselEffectsPacket.of(VariantGroups.groupOf(from), VariantGroups.indexOf(from), positions),
+                PacketDistributor.TRACKING_CHUNK.with(level.getChunkAt(pos)));
+        level.playSound(null, pos, SoundEvents.AMETHYST_BLOCK_HIT, SoundSource.BLOCKS, 1.0F, 1.0F);
+        stack.hurtAndBreak(1, player, LivingEntity.getSlotForHand(context.getHand()));
+    }
+}
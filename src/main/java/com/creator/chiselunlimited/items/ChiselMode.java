@@ -0,0 +1,42 @@
+package com.creator.chiselunlimited.items;
+
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.util.StringRepresentable;
+
+public enum ChiselMode implements StringRepresentable {
+    // Only the clicked block
+    SINGLE("single"),
+    // 3x3 in the plane of the clicked face
+    PLANE("plane"),
+    // The unbroken vertical run of matching blocks through the clicked one
+    COLUMN("column"),
+    // Flood fill over touching matching blocks
+    CONTIGUOUS("contiguous"),
+    // Every matching block in the box between the anchor and the clicked block
+    AREA("area");
+
+    public static final Codec<ChiselMode> CODEC = StringRepresentable.fromEnum(ChiselMode::values);
+    public static final StreamCodec<ByteBuf, ChiselMode> STREAM_CODEC = ByteBufCodecs.idMapper(id -> values()[id], ChiselMode::ordinal);
+
+    private final String name;
+
+    ChiselMode(String name) {
+        this.name = name;
+    }
+
+    public ChiselMode next() {
+        return values()[(ordinal() + 1) % values().length];
+    }
+
+    public String translationKey() {
+        return "chisel_mode.chisel_unlimited." + name;
+    }
+
+    @Override
+    public String getSerializedName() {
+        return name;
+    }
+}
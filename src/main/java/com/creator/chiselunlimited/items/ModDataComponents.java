@@ -0,0 +1,31 @@
+package com.creator.chiselunlimited.items;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.RegistryObject;
+
+public class ModDataComponents {
+    public static final DeferredRegister<DataComponentType<?>> DATA_COMPONENTS =
+            DeferredRegister.create(Registries.DATA_COMPONENT_TYPE, ChiselUnlimited.MOD_ID);
+
+    public static final RegistryObject<DataComponentType<ChiselMode>> CHISEL_MODE = DATA_COMPONENTS.register("chisel_mode",
+            () -> DataComponentType.<ChiselMode>builder().persistent(ChiselMode.CODEC).networkSynchronized(ChiselMode.STREAM_CODEC).build());
+    // Variant block the chisel turns things into, picked in the chisel screen.
+    // Saved by name, but synced as the block's raw registry id (a VarInt) since the stack resyncs on every use.
+    public static final RegistryObject<DataComponentType<Block>> CHISEL_TARGET = DATA_COMPONENTS.register("chisel_target",
+            () -> DataComponentType.<Block>builder().persistent(BuiltInRegistries.BLOCK.byNameCodec()).networkSynchronized(ByteBufCodecs.registry(Registries.BLOCK)).build());
+    // First corner of the AREA mode selection
+    public static final RegistryObject<DataComponentType<BlockPos>> CHISEL_ANCHOR = DATA_COMPONENTS.register("chisel_anchor",
+            () -> DataComponentType.<BlockPos>builder().persistent(BlockPos.CODEC).networkSynchronized(BlockPos.STREAM_CODEC).build());
+
+    public static void register(IEventBus eventBus) {
+        DATA_COMPONENTS.register(eventBus);
+    }
+}
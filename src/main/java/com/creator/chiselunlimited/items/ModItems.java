@@ -1,6 +1,7 @@
 package com.creator.chiselunlimited.items;
 
 import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.profiling.StartupProfiler;
 import com.nimbusds.oauth2.sdk.id.Identifier;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
@@ -20,9 +21,13 @@ public class ModItems {
     public static final RegistryObject<Item> Alexandrite = ITEMS.register("alexandrite", () -> new Item(new Item.Properties().useItemDescriptionPrefix().setId(ResourceKey.create(Registries.ITEM, ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "alexandrite")))));
     public static final RegistryObject<Item> Raw_Alexandrite = ITEMS.register("raw_alexandrite", () -> new Item(new Item.Properties().useItemDescriptionPrefix().setId(ResourceKey.create(Registries.ITEM, ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "raw_alexandrite")))));
 
+    public static final RegistryObject<Item> Chisel = ITEMS.register("chisel", () -> new ChiselItem(new Item.Properties().durability(512).setId(ResourceKey.create(Registries.ITEM, ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "chisel")))));
+
     // Pass the EventBus to the Registry
     public static void register(IEventBus eventBus) {
-        ITEMS.register(eventBus);
+        try (var ignored = StartupProfiler.time("deferred_register")) {
+            ITEMS.register(eventBus);
+        }
     }
 
 }
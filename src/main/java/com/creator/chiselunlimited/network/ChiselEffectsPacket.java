@@ -0,0 +1,39 @@
+package com.creator.chiselunlimited.network;
+
+import com.creator.chiselunlimited.client.ClientHooks;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.event.network.CustomPayloadEvent;
+
+// Tells nearby clients which blocks a bulk chisel touched so they can play the chisel particles.
+// The chiseled variant is a server palette (group, index) pair and positions are delta compressed.
+// Large selections only send an evenly spread sample, as that is all the client shows particles for.
+public record ChiselEffectsPacket(int group, int index, long[] positions) {
+    public static final int MAX_POSITIONS = 64;
+
+    public static ChiselEffectsPacket of(int group, int index, LongCollection selection) {
+        long[] all = selection.toLongArray();
+        if (all.length <= MAX_POSITIONS) {
+            return new ChiselEffectsPacket(group, index, all);
+        }
+        long[] sample = new long[MAX_POSITIONS];
+        for (int i = 0; i < MAX_POSITIONS; i++) {
+            sample[i] = all[(int) ((long) i * all.length / MAX_POSITIONS)];
+        }
+        return new ChiselEffectsPacket(group, index, sample);
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(group);
+        buf.writeVarInt(index);
+        PositionListCodec.write(buf, positions);
+    }
+
+    public static ChiselEffectsPacket decode(FriendlyByteBuf buf) {
+        return new ChiselEffectsPacket(buf.readVarInt(), buf.readVarInt(), PositionListCodec.read(buf));
+    }
+
+    public void handle(CustomPayloadEvent.Context context) {
+        ClientHooks.playChiselEffects(this);
+    }
+}
@@ -0,0 +1,35 @@
+package com.creator.chiselunlimited.network;
+
+import com.creator.chiselunlimited.blocks.entity.AutoChiselBlockEntity;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.event.network.CustomPayloadEvent;
+
+// Client picked an auto chisel's target in the chisel screen. Group and index are in the server's palette numbering.
+public record ConfigureAutoChiselPacket(BlockPos pos, int group, int index) {
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBlockPos(pos);
+        buf.writeVarInt(group);
+        buf.writeVarInt(index);
+    }
+
+    public static ConfigureAutoChiselPacket decode(FriendlyByteBuf buf) {
+        return new ConfigureAutoChiselPacket(buf.readBlockPos(), buf.readVarInt(), buf.readVarInt());
+    }
+
+    public void handle(CustomPayloadEvent.Context context) {
+        ServerPlayer player = context.getSender();
+        if (player == null || !VariantPalette.isValid(group, index) || !player.canInteractWithBlock(pos, 1.0)) {
+            return;
+        }
+        Item target = VariantGroups.variantItem(group, index);
+        if (target != Items.AIR && player.level().getBlockEntity(pos) instanceof AutoChiselBlockEntity machine) {
+            machine.setTarget(target);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.creator.chiselunlimited.network;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.ChannelBuilder;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.SimpleChannel;
+
+// Variants travel as VarInt (group, index) pairs in the server's numbering, see VariantPalette
+public class ModNetwork {
+    private static final int PROTOCOL_VERSION = 2;
+
+    public static final SimpleChannel CHANNEL = ChannelBuilder
+            .named(ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, "main"))
+            .networkProtocolVersion(PROTOCOL_VERSION)
+            .simpleChannel();
+
+    public static void register() {
+        CHANNEL.messageBuilder(VariantPalettePacket.class, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(VariantPalettePacket::encode)
+                .decoder(VariantPalettePacket::decode)
+                .consumerMainThread(VariantPalettePacket::handle)
+                .add();
+        CHANNEL.messageBuilder(SetChiselTargetPacket.class, NetworkDirection.PLAY_TO_SERVER)
+                .encoder(SetChiselTargetPacket::encode)
+                .decoder(SetChiselTargetPacket::decode)
+                .consumerMainThread(SetChiselTargetPacket::handle)
+                .add();
+        CHANNEL.messageBuilder(ConfigureAutoChiselPacket.class, NetworkDirection.PLAY_TO_SERVER)
+                .encoder(ConfigureAutoChiselPacket::encode)
+                .decoder(ConfigureAutoChiselPacket::decode)
+                .consumerMainThread(ConfigureAutoChiselPacket::handle)
+                .add();
+        CHANNEL.messageBuilder(ChiselEffectsPacket.class, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(ChiselEffectsPacket::encode)
+                .decoder(ChiselEffectsPacket::decode)
+                .consumerMainThread(ChiselEffectsPacket::handle)
+                .add();
+    }
+}
@@ -0,0 +1,65 @@
+package com.creator.chiselunlimited.network;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+
+// Writes packed BlockPos lists as per-axis deltas: positions are sorted by y, z, x so neighbours follow each other,
+// then each one is stored as three zigzag VarInts relative to the previous. Adjacent blocks cost 3 bytes instead of 8.
+public final class PositionListCodec {
+    public static final int MAX_POSITIONS = 1 << 20;
+
+    private PositionListCodec() {
+    }
+
+    public static void write(FriendlyByteBuf buf, long[] positions) {
+        long[] sorted = positions.clone();
+        LongArrays.quickSort(sorted, PositionListCodec::compare);
+        buf.writeVarInt(sorted.length);
+        int lastX = 0, lastY = 0, lastZ = 0;
+        for (long pos : sorted) {
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            buf.writeVarInt(zigzag(x - lastX));
+            buf.writeVarInt(zigzag(y - lastY));
+            buf.writeVarInt(zigzag(z - lastZ));
+            lastX = x;
+            lastY = y;
+            lastZ = z;
+        }
+    }
+
+    public static long[] read(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        // Every position takes at least three bytes, so a larger count can only be garbage
+        if (count < 0 || count > MAX_POSITIONS || count > buf.readableBytes() / 3) {
+            throw new IllegalArgumentException("Invalid position list length " + count);
+        }
+        long[] positions = new long[count];
+        int x = 0, y = 0, z = 0;
+        for (int i = 0; i < count; i++) {
+            x += unzigzag(buf.readVarInt());
+            y += unzigzag(buf.readVarInt());
+            z += unzigzag(buf.readVarInt());
+            positions[i] = BlockPos.asLong(x, y, z);
+        }
+        return positions;
+    }
+
+    private static int compare(long a, long b) {
+        int result = Integer.compare(BlockPos.getY(a), BlockPos.getY(b));
+        if (result == 0) {
+            result = Integer.compare(BlockPos.getZ(a), BlockPos.getZ(b));
+        }
+        return result != 0 ? result : Integer.compare(BlockPos.getX(a), BlockPos.getX(b));
+    }
+
+    private static int zigzag(int value) {
+        return value << 1 ^ value >> 31;
+    }
+
+    private static int unzigzag(int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+}
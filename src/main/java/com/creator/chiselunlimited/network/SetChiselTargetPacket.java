@@ -0,0 +1,35 @@
+package com.creator.chiselunlimited.network;
+
+import com.creator.chiselunlimited.items.ChiselItem;
+import com.creator.chiselunlimited.items.ModDataComponents;
+import com.creator.chiselunlimited.variants.VariantGroups;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.network.CustomPayloadEvent;
+
+// Client picked a variant in the chisel screen. Group and index are in the server's palette numbering.
+public record SetChiselTargetPacket(InteractionHand hand, int group, int index) {
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBoolean(hand == InteractionHand.OFF_HAND);
+        buf.writeVarInt(group);
+        buf.writeVarInt(index);
+    }
+
+    public static SetChiselTargetPacket decode(FriendlyByteBuf buf) {
+        return new SetChiselTargetPacket(buf.readBoolean() ? InteractionHand.OFF_HAND : InteractionHand.MAIN_HAND, buf.readVarInt(), buf.readVarInt());
+    }
+
+    public void handle(CustomPayloadEvent.Context context) {
+        ServerPlayer player = context.getSender();
+        if (player == null || !VariantPalette.isValid(group, index)) {
+            return;
+        }
+        ItemStack stack = player.getItemInHand(hand);
+        if (stack.getItem() instanceof ChiselItem) {
+            stack.set(ModDataComponents.CHISEL_TARGET.get(), VariantGroups.variant(group, index));
+        }
+    }
+}
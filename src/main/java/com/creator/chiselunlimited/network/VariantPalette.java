@@ -0,0 +1,80 @@
+package com.creator.chiselunlimited.network;
+
+import com.creator.chiselunlimited.variants.VariantGroups;
+import com.creator.chiselunlimited.variants.VariantLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Maps between the server's (group, index) numbering and ours. The server sends its variant list once at login;
+// after that every packet refers to variants by index only. On an integrated server both sides match 1:1.
+public final class VariantPalette {
+    private static int[][] localToServer = new int[0][];
+    private static int[][] serverToLocal = new int[0][];
+
+    private VariantPalette() {
+    }
+
+    // Server side: the palette every joining player receives
+    public static VariantPalettePacket create() {
+        VariantLookup lookup = VariantGroups.lookup();
+        List<List<ResourceLocation>> groups = new ArrayList<>(lookup.groupCount());
+        for (int group = 0; group < lookup.groupCount(); group++) {
+            List<ResourceLocation> variants = new ArrayList<>(lookup.variantCount(group));
+            for (int index = 0; index < lookup.variantCount(group); index++) {
+                variants.add(BuiltInRegistries.BLOCK.getKey(VariantGroups.variant(group, index)));
+            }
+            groups.add(variants);
+        }
+        return new VariantPalettePacket(groups);
+    }
+
+    // Client side: rebuild the remap tables from the server's palette
+    static synchronized void apply(VariantPalettePacket packet) {
+        VariantLookup lookup = VariantGroups.lookup();
+        int[][] toServer = new int[lookup.groupCount()][];
+        for (int group = 0; group < toServer.length; group++) {
+            toServer[group] = new int[lookup.variantCount(group)];
+            Arrays.fill(toServer[group], VariantLookup.NONE);
+        }
+        int[][] toLocal = new int[packet.groups().size()][];
+        for (int serverGroup = 0; serverGroup < toLocal.length; serverGroup++) {
+            List<ResourceLocation> variants = packet.groups().get(serverGroup);
+            toLocal[serverGroup] = new int[variants.size()];
+            for (int serverIndex = 0; serverIndex < variants.size(); serverIndex++) {
+                ResourceLocation id = variants.get(serverIndex);
+                int entry = ForgeRegistries.BLOCKS.containsKey(id)
+                        ? lookup.blockEntry(BuiltInRegistries.BLOCK.getId(ForgeRegistries.BLOCKS.getValue(id)))
+                        : VariantLookup.NONE;
+                toLocal[serverGroup][serverIndex] = entry;
+                if (entry != VariantLookup.NONE) {
+                    toServer[VariantLookup.group(entry)][VariantLookup.index(entry)] = VariantLookup.pack(serverGroup, serverIndex);
+                }
+            }
+        }
+        localToServer = toServer;
+        serverToLocal = toLocal;
+    }
+
+    // Packed server entry for one of our variants, or NONE if the server doesn't have it
+    public static int toServer(int group, int index) {
+        int[][] table = localToServer;
+        return group < table.length && index < table[group].length ? table[group][index] : VariantLookup.NONE;
+    }
+
+    // Packed local entry for a server variant, or NONE if we don't have it
+    public static int toLocal(int group, int index) {
+        int[][] table = serverToLocal;
+        return group >= 0 && group < table.length && index >= 0 && index < table[group].length ? table[group][index] : VariantLookup.NONE;
+    }
+
+    // Server side check for indices sent by a client
+    public static boolean isValid(int group, int index) {
+        VariantLookup lookup = VariantGroups.lookup();
+        return group >= 0 && group < lookup.groupCount() && index >= 0 && index < lookup.variantCount(group);
+    }
+}
@@ -0,0 +1,38 @@
+package com.creator.chiselunlimited.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.event.network.CustomPayloadEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Sent once at login: the server's variant block ids in group and index order
+public record VariantPalettePacket(List<List<ResourceLocation>> groups) {
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(groups.size());
+        for (List<ResourceLocation> variants : groups) {
+            buf.writeVarInt(variants.size());
+            variants.forEach(buf::writeResourceLocation);
+        }
+    }
+
+    public static VariantPalettePacket decode(FriendlyByteBuf buf) {
+        int groupCount = buf.readVarInt();
+        List<List<ResourceLocation>> groups = new ArrayList<>(Math.min(groupCount, 1024));
+        for (int group = 0; group < groupCount; group++) {
+            int variantCount = buf.readVarInt();
+            List<ResourceLocation> variants = new ArrayList<>(Math.min(variantCount, 1024));
+            for (int index = 0; index < variantCount; index++) {
+                variants.add(buf.readResourceLocation());
+            }
+            groups.add(variants);
+        }
+        return new VariantPalettePacket(groups);
+    }
+
+    public void handle(CustomPayloadEvent.Context context) {
+        VariantPalette.apply(this);
+    }
+}
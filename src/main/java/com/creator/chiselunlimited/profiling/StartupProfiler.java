@@ -0,0 +1,116 @@
+package com.creator.chiselunlimited.profiling;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.Config;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.registries.RegisterEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Times how long each of our startup phases takes and reports them once loading completes.
+// Usage: try (var ignored = StartupProfiler.time("phase")) { ... }
+// Phases recorded after the report (a client resource reload rebaking models) are only logged, at debug level.
+public final class StartupProfiler {
+    public static final String FILE_NAME = ChiselUnlimited.MOD_ID + "-startup.json";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Map<String, Phase> PHASES = new LinkedHashMap<>();
+    private static long registerStart;
+    private static boolean reported;
+
+    private StartupProfiler() {
+    }
+
+    // Brackets our RegisterEvent listeners (the DeferredRegister suppliers actually run there) and reports at load complete
+    public static void install(IEventBus modEventBus) {
+        modEventBus.addListener(EventPriority.HIGHEST, (RegisterEvent event) -> registerStart = System.nanoTime());
+        modEventBus.addListener(EventPriority.LOWEST, (RegisterEvent event) -> record("registry_events", System.nanoTime() - registerStart));
+        modEventBus.addListener((FMLLoadCompleteEvent event) -> report());
+    }
+
+    public static Timer time(String phase) {
+        return new Timer(phase, System.nanoTime());
+    }
+
+    public static synchronized void record(String phase, long nanos) {
+        Phase entry = PHASES.computeIfAbsent(phase, Phase::new);
+        entry.nanos += nanos;
+        entry.count++;
+        if (reported) {
+            ChiselUnlimited.LOGGER.debug("Late phase {} took {} ms", phase, millis(nanos));
+        }
+    }
+
+    public static synchronized void report() {
+        reported = true;
+        long total = 0;
+        StringBuilder report = new StringBuilder("Chisel Unlimited startup profile:");
+        for (Phase phase : PHASES.values()) {
+            total += phase.nanos;
+            report.append(String.format("%n  %-20s %10.2f ms  x%d", phase.name, millis(phase.nanos), phase.count));
+        }
+        report.append(String.format("%n  %-20s %10.2f ms", "total", millis(total)));
+        ChiselUnlimited.LOGGER.info(report.toString());
+
+        if (Config.dumpStartupProfile) {
+            dump(FMLPaths.GAMEDIR.get().resolve(FILE_NAME), total);
+        }
+    }
+
+    private static void dump(Path file, long total) {
+        JsonArray phases = new JsonArray();
+        for (Phase phase : PHASES.values()) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("name", phase.name);
+            entry.addProperty("millis", millis(phase.nanos));
+            entry.addProperty("count", phase.count);
+            phases.add(entry);
+        }
+        JsonObject json = new JsonObject();
+        json.addProperty("mod", ChiselUnlimited.MOD_ID);
+        json.addProperty("timestamp", System.currentTimeMillis());
+        json.addProperty("totalMillis", millis(total));
+        json.add("phases", phases);
+
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            GSON.toJson(json, writer);
+            ChiselUnlimited.LOGGER.info("Wrote startup profile to {}", file);
+        } catch (IOException e) {
+            ChiselUnlimited.LOGGER.warn("Failed to write startup profile to {}", file, e);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public record Timer(String phase, long start) implements AutoCloseable {
+        @Override
+        public void close() {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private static final class Phase {
+        final String name;
+        long nanos;
+        int count;
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.creator.chiselunlimited.variants;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// One chisel group as defined in data/chisel_unlimited/variant_groups/<name>.json
+// "include" lists existing blocks (usually the vanilla base block) that chisel into the group's variants,
+// "connected" lists the variants that render with connected textures
+public record VariantGroup(ResourceLocation id, float strength, float resistance, List<ResourceLocation> includes, List<String> variants, Set<String> connected) {
+
+    public static VariantGroup fromJson(ResourceLocation id, JsonObject json) {
+        float strength = GsonHelper.getAsFloat(json, "strength", 1.5F);
+        float resistance = GsonHelper.getAsFloat(json, "resistance", strength);
+
+        List<ResourceLocation> includes = new ArrayList<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(json, "include", new JsonArray())) {
+            includes.add(ResourceLocation.parse(GsonHelper.convertToString(element, "include")));
+        }
+
+        List<String> variants = new ArrayList<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(json, "variants")) {
+            String name = GsonHelper.convertToString(element, "variant");
+            if (!ResourceLocation.isValidPath(name)) {
+                throw new IllegalArgumentException("Invalid variant name '" + name + "' in group " + id);
+            }
+            variants.add(name);
+        }
+
+        Set<String> connected = new HashSet<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(json, "connected", new JsonArray())) {
+            String name = GsonHelper.convertToString(element, "connected");
+            if (!variants.contains(name)) {
+                throw new IllegalArgumentException("Connected variant '" + name + "' is not part of group " + id);
+            }
+            connected.add(name);
+        }
+        if (includes.size() + variants.size() < 2) {
+            throw new IllegalArgumentException("Variant group " + id + " needs at least two members");
+        }
+        return new VariantGroup(id, strength, resistance, List.copyOf(includes), List.copyOf(variants), Set.copyOf(connected));
+    }
+
+    public int size() {
+        return includes.size() + variants.size();
+    }
+}
@@ -0,0 +1,146 @@
+package com.creator.chiselunlimited.variants;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.creator.chiselunlimited.blocks.ModBlocks;
+import com.google.gson.JsonParser;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class VariantGroups {
+    public static final String DIRECTORY = "variant_groups";
+
+    private static List<VariantGroup> groups = List.of();
+    private static volatile VariantLookup lookup = VariantLookup.EMPTY;
+
+    private VariantGroups() {
+    }
+
+    // Reads every group definition bundled in our mod file. This has to happen at mod construction,
+    // long before datapacks exist, because the variant blocks are registered from it.
+    public static void load() {
+        Path root = ModList.get().getModFileById(ChiselUnlimited.MOD_ID).getFile().findResource("data", ChiselUnlimited.MOD_ID, DIRECTORY);
+        if (!Files.isDirectory(root)) {
+            ChiselUnlimited.LOGGER.warn("No variant groups found at {}", root);
+            return;
+        }
+
+        List<VariantGroup> loaded = new ArrayList<>();
+        // Sorted so group ids are identical on every side and every launch
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+                String name = file.getFileName().toString();
+                ResourceLocation id = ResourceLocation.fromNamespaceAndPath(ChiselUnlimited.MOD_ID, name.substring(0, name.length() - 5));
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    loaded.add(VariantGroup.fromJson(id, JsonParser.parseReader(reader).getAsJsonObject()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read variant groups from " + root, e);
+        }
+        groups = List.copyOf(loaded);
+        ChiselUnlimited.LOGGER.info("Loaded {} variant groups", groups.size());
+    }
+
+    public static List<VariantGroup> all() {
+        return groups;
+    }
+
+    // Flattens the registered groups into the raw id lookup. Called from commonSetup once registries are frozen,
+    // and again after every IdMappingEvent since raw ids change when a world or a server's registries are loaded.
+    public static void freeze() {
+        // Groups and variants are packed into 16 bits each, see VariantLookup
+        if (groups.size() >= VariantLookup.MAX_GROUPS) {
+            throw new IllegalStateException(groups.size() + " variant groups defined, limit is " + (VariantLookup.MAX_GROUPS - 1));
+        }
+        int[][] blockIds = new int[groups.size()][];
+        int[][] itemIds = new int[groups.size()][];
+        // A remapped registry can leave gaps, so size the tables from the highest id in use rather than the entry count
+        int maxBlockId = -1;
+        int maxItemId = -1;
+        for (int g = 0; g < groups.size(); g++) {
+            VariantGroup group = groups.get(g);
+            List<Block> members = new ArrayList<>(group.size());
+            for (ResourceLocation include : group.includes()) {
+                if (!ForgeRegistries.BLOCKS.containsKey(include)) {
+                    ChiselUnlimited.LOGGER.warn("Variant group {} includes unknown block {}", group.id(), include);
+                    continue;
+                }
+                members.add(ForgeRegistries.BLOCKS.getValue(include));
+            }
+            for (RegistryObject<Block> variant : ModBlocks.VARIANT_BLOCKS.get(g)) {
+                members.add(variant.get());
+            }
+            if (members.size() >= VariantLookup.MAX_VARIANTS) {
+                throw new IllegalStateException("Variant group " + group.id() + " has " + members.size() + " variants, limit is " + (VariantLookup.MAX_VARIANTS - 1));
+            }
+
+            blockIds[g] = new int[members.size()];
+            itemIds[g] = new int[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                Block block = members.get(i);
+                Item item = block.asItem();
+                blockIds[g][i] = BuiltInRegistries.BLOCK.getId(block);
+                itemIds[g][i] = item == Items.AIR ? VariantLookup.NONE : BuiltInRegistries.ITEM.getId(item);
+                maxBlockId = Math.max(maxBlockId, blockIds[g][i]);
+                maxItemId = Math.max(maxItemId, itemIds[g][i]);
+            }
+        }
+
+        VariantLookup.Builder builder = new VariantLookup.Builder(maxBlockId + 1, maxItemId + 1);
+        for (int g = 0; g < groups.size(); g++) {
+            builder.addGroup(blockIds[g], itemIds[g]);
+        }
+        lookup = builder.build();
+    }
+
+    public static VariantLookup lookup() {
+        return lookup;
+    }
+
+    // Group id of the block, or -1 if it cannot be chiseled
+    public static int groupOf(Block block) {
+        return VariantLookup.group(lookup.blockEntry(BuiltInRegistries.BLOCK.getId(block)));
+    }
+
+    public static int indexOf(Block block) {
+        return VariantLookup.index(lookup.blockEntry(BuiltInRegistries.BLOCK.getId(block)));
+    }
+
+    public static int groupOf(Item item) {
+        return VariantLookup.group(lookup.itemEntry(BuiltInRegistries.ITEM.getId(item)));
+    }
+
+    public static int indexOf(Item item) {
+        return VariantLookup.index(lookup.itemEntry(BuiltInRegistries.ITEM.getId(item)));
+    }
+
+    public static int variantCount(int group) {
+        return lookup.variantCount(group);
+    }
+
+    public static Block variant(int group, int index) {
+        return BuiltInRegistries.BLOCK.byId(lookup.blockAt(group, index));
+    }
+
+    // The item form of a variant, or AIR if it has none
+    public static Item variantItem(int group, int index) {
+        int id = lookup.itemAt(group, index);
+        return id == VariantLookup.NONE ? Items.AIR : BuiltInRegistries.ITEM.byId(id);
+    }
+
+}
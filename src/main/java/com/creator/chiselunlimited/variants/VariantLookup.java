@@ -0,0 +1,120 @@
+package com.creator.chiselunlimited.variants;
+
+import java.util.Arrays;
+
+// Frozen "what can this be chiseled into" table, indexed by registry raw id.
+// Every entry packs (group << 16 | variant index) into a single int so a query is one array read and never allocates.
+// Kept free of Minecraft types so it can be benchmarked and tested without bootstrapping the game.
+public final class VariantLookup {
+    public static final int NONE = -1;
+    // Both halves of an entry are 16 bits. Counts stay below 0xFFFF so the largest index is 0xFFFE and no entry can equal NONE
+    public static final int MAX_GROUPS = 1 << 16;
+    public static final int MAX_VARIANTS = 1 << 16;
+    public static final VariantLookup EMPTY = new Builder(0, 0).build();
+
+    private final int[] blockEntries;
+    private final int[] itemEntries;
+    private final int[][] groupBlocks;
+    private final int[][] groupItems;
+
+    private VariantLookup(int[] blockEntries, int[] itemEntries, int[][] groupBlocks, int[][] groupItems) {
+        this.blockEntries = blockEntries;
+        this.itemEntries = itemEntries;
+        this.groupBlocks = groupBlocks;
+        this.groupItems = groupItems;
+    }
+
+    public int groupCount() {
+        return groupBlocks.length;
+    }
+
+    public int variantCount(int group) {
+        return groupBlocks[group].length;
+    }
+
+    // Packed (group << 16 | index) entry for a block raw id, or NONE
+    public int blockEntry(int blockId) {
+        return blockId >= 0 && blockId < blockEntries.length ? blockEntries[blockId] : NONE;
+    }
+
+    // Packed (group << 16 | index) entry for an item raw id, or NONE
+    public int itemEntry(int itemId) {
+        return itemId >= 0 && itemId < itemEntries.length ? itemEntries[itemId] : NONE;
+    }
+
+    public int blockAt(int group, int index) {
+        return groupBlocks[group][index];
+    }
+
+    public int itemAt(int group, int index) {
+        return groupItems[group][index];
+    }
+
+    public static int group(int entry) {
+        return entry == NONE ? NONE : entry >>> 16;
+    }
+
+    public static int index(int entry) {
+        return entry == NONE ? NONE : entry & 0xFFFF;
+    }
+
+    public static int pack(int group, int index) {
+        return group << 16 | index;
+    }
+
+    public static final class Builder {
+        private final int[] blockEntries;
+        private final int[] itemEntries;
+        private int[][] groupBlocks = new int[8][];
+        private int[][] groupItems = new int[8][];
+        private int groups;
+
+        public Builder(int blockCapacity, int itemCapacity) {
+            this.blockEntries = new int[blockCapacity];
+            this.itemEntries = new int[itemCapacity];
+            Arrays.fill(this.blockEntries, NONE);
+            Arrays.fill(this.itemEntries, NONE);
+        }
+
+        // Adds a group in variant order. itemIds[i] may be NONE for variants without an item form.
+        public int addGroup(int[] blockIds, int[] itemIds) {
+            if (blockIds.length != itemIds.length) {
+                throw new IllegalArgumentException("Block and item id arrays differ in length");
+            }
+            if (blockIds.length >= MAX_VARIANTS) {
+                throw new IllegalArgumentException("Variant group has " + blockIds.length + " variants, limit is " + (MAX_VARIANTS - 1));
+            }
+            if (groups + 1 >= MAX_GROUPS) {
+                throw new IllegalStateException("Too many variant groups, limit is " + (MAX_GROUPS - 1));
+            }
+            int group = groups;
+            for (int i = 0; i < blockIds.length; i++) {
+                claim(blockEntries, blockIds[i], group, i, "Block");
+                if (itemIds[i] != NONE) {
+                    claim(itemEntries, itemIds[i], group, i, "Item");
+                }
+            }
+            if (group == groupBlocks.length) {
+                groupBlocks = Arrays.copyOf(groupBlocks, group * 2);
+                groupItems = Arrays.copyOf(groupItems, group * 2);
+            }
+            groupBlocks[group] = blockIds.clone();
+            groupItems[group] = itemIds.clone();
+            return groups++;
+        }
+
+        private static void claim(int[] entries, int id, int group, int index, String kind) {
+            if (id < 0 || id >= entries.length) {
+                throw new IllegalArgumentException(kind + " raw id " + id + " is outside the registry");
+            }
+            if (entries[id] != NONE) {
+                throw new IllegalStateException(kind + " raw id " + id + " is already in variant group " + group(entries[id]));
+            }
+            entries[id] = pack(group, index);
+        }
+
+        public VariantLookup build() {
+            return new VariantLookup(blockEntries, itemEntries, Arrays.copyOf(groupBlocks, groups), Arrays.copyOf(groupItems, groups));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.creator.chiselunlimited.worldgen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.configurations.OreConfiguration;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+
+// Feature types. The configured and placed features using them are data: data/chisel_unlimited/worldgen
+public class ModFeatures {
+    public static final DeferredRegister<Feature<?>> FEATURES =
+            DeferredRegister.create(ForgeRegistries.FEATURES, ChiselUnlimited.MOD_ID);
+
+    public static final RegistryObject<PaletteAwareOreFeature> PALETTE_AWARE_ORE =
+            FEATURES.register("palette_aware_ore", () -> new PaletteAwareOreFeature(OreConfiguration.CODEC));
+
+    public static void register(IEventBus eventBus) {
+        FEATURES.register(eventBus);
+    }
+}
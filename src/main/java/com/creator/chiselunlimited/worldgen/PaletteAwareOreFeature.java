@@ -0,0 +1,259 @@
+package com.creator.chiselunlimited.worldgen;
+
+import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.BulkSectionAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.OreFeature;
+import net.minecraft.world.level.levelgen.feature.configurations.OreConfiguration;
+import net.minecraft.world.level.levelgen.structure.templatesystem.AlwaysTrueTest;
+import net.minecraft.world.level.levelgen.structure.templatesystem.BlockMatchTest;
+import net.minecraft.world.level.levelgen.structure.templatesystem.BlockStateMatchTest;
+import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTest;
+import net.minecraft.world.level.levelgen.structure.templatesystem.TagMatchTest;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+// Places the same blobs as vanilla's minecraft:ore, but asks each chunk section's palette first whether it
+// holds any block a target could replace. Sections that can't (air, water, a different stone) are skipped
+// without reading a single block state. Verdicts are remembered per section for the rest of the placement.
+// The palette check only runs when every target rule ignores randomness; otherwise every position is tested.
+public class PaletteAwareOreFeature extends Feature<OreConfiguration> {
+    // Set by the pregen benchmark while it times generation without this feature; only chunks inside are affected
+    @Nullable
+    private static volatile DisabledRegion disabledRegion;
+    private static final LongAdder SECTIONS_CHECKED = new LongAdder();
+    private static final LongAdder SECTIONS_SKIPPED = new LongAdder();
+
+    public PaletteAwareOreFeature(Codec<OreConfiguration> codec) {
+        super(codec);
+    }
+
+    public static void setDisabledRegion(@Nullable DisabledRegion region) {
+        disabledRegion = region;
+    }
+
+    public static long sectionsChecked() {
+        return SECTIONS_CHECKED.sum();
+    }
+
+    public static long sectionsSkipped() {
+        return SECTIONS_SKIPPED.sum();
+    }
+
+    public static void resetStats() {
+        SECTIONS_CHECKED.reset();
+        SECTIONS_SKIPPED.reset();
+    }
+
+    @Override
+    public boolean place(FeaturePlaceContext<OreConfiguration> context) {
+        RandomSource random = context.random();
+        BlockPos origin = context.origin();
+        WorldGenLevel level = context.level();
+        OreConfiguration config = context.config();
+        DisabledRegion disabled = disabledRegion;
+        if (disabled != null && disabled.contains(level.getLevel().dimension(), SectionPos.blockToSectionCoord(origin.getX()), SectionPos.blockToSectionCoord(origin.getZ()))) {
+            return false;
+        }
+
+        // Same shape as vanilla: a line of spheres of config.size length at a random angle
+        float angle = random.nextFloat() * (float) Math.PI;
+        float spread = config.size / 8.0F;
+        int radius = Mth.ceil((config.size / 16.0F * 2.0F + 1.0F) / 2.0F);
+        double startX = origin.getX() + Math.sin(angle) * spread;
+        double endX = origin.getX() - Math.sin(angle) * spread;
+        double startZ = origin.getZ() + Math.cos(angle) * spread;
+        double endZ = origin.getZ() - Math.cos(angle) * spread;
+        double startY = origin.getY() + random.nextInt(3) - 2;
+        double endY = origin.getY() + random.nextInt(3) - 2;
+        int minX = origin.getX() - Mth.ceil(spread) - radius;
+        int minY = origin.getY() - 2 - radius;
+        int minZ = origin.getZ() - Mth.ceil(spread) - radius;
+        int width = 2 * (Mth.ceil(spread) + radius);
+        int height = 2 * (2 + radius);
+
+        for (int x = minX; x <= minX + width; x++) {
+            for (int z = minZ; z <= minZ + width; z++) {
+                if (minY <= level.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, x, z)) {
+                    return place(level, random, config, new double[]{startX, startY, startZ, endX, endY, endZ}, minX, minY, minZ, width, height);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean place(WorldGenLevel level, RandomSource random, OreConfiguration config, double[] line,
+                          int minX, int minY, int minZ, int width, int height) {
+        int size = config.size;
+        double[] spheres = spheres(random, size, line);
+        BitSet visited = new BitSet(width * height * width);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int placed = 0;
+
+        try (BulkSectionAccess access = new BulkSectionAccess(level)) {
+            SectionFilter filter = new SectionFilter(config.targetStates, random);
+            for (int sphere = 0; sphere < size; sphere++) {
+                double r = spheres[sphere * 4 + 3];
+                if (r < 0.0) {
+                    continue;
+                }
+                double centerX = spheres[sphere * 4];
+                double centerY = spheres[sphere * 4 + 1];
+                double centerZ = spheres[sphere * 4 + 2];
+                int fromX = Math.max(Mth.floor(centerX - r), minX);
+                int fromY = Math.max(Mth.floor(centerY - r), minY);
+                int fromZ = Math.max(Mth.floor(centerZ - r), minZ);
+                int toX = Math.max(Mth.floor(centerX + r), fromX);
+                int toY = Math.max(Mth.floor(centerY + r), fromY);
+                int toZ = Math.max(Mth.floor(centerZ + r), fromZ);
+
+                for (int x = fromX; x <= toX; x++) {
+                    double dx = (x + 0.5 - centerX) / r;
+                    if (dx * dx >= 1.0) {
+                        continue;
+                    }
+                    for (int y = fromY; y <= toY; y++) {
+                        double dy = (y + 0.5 - centerY) / r;
+                        if (dx * dx + dy * dy >= 1.0 || level.isOutsideBuildHeight(y)) {
+                            continue;
+                        }
+                        for (int z = fromZ; z <= toZ; z++) {
+                            double dz = (z + 0.5 - centerZ) / r;
+                            if (dx * dx + dy * dy + dz * dz >= 1.0) {
+                                continue;
+                            }
+                            int bit = x - minX + (y - minY) * width + (z - minZ) * width * height;
+                            if (visited.get(bit)) {
+                                continue;
+                            }
+                            visited.set(bit);
+                            pos.set(x, y, z);
+                            if (!level.ensureCanWrite(pos)) {
+                                continue;
+                            }
+                            LevelChunkSection section = access.getSection(pos);
+                            if (section == null || !filter.mayHost(section, x, y, z)) {
+                                continue;
+                            }
+                            int localX = SectionPos.sectionRelative(x);
+                            int localY = SectionPos.sectionRelative(y);
+                            int localZ = SectionPos.sectionRelative(z);
+                            BlockState state = section.getBlockState(localX, localY, localZ);
+                            for (OreConfiguration.TargetBlockState target : config.targetStates) {
+                                if (OreFeature.canPlaceOre(state, access::getBlockState, random, config, target, pos)) {
+                                    section.setBlockState(localX, localY, localZ, target.state, false);
+                                    placed++;
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return placed > 0;
+    }
+
+    // Sphere centres and radii along the line, four doubles each. Spheres inside another get radius -1.
+    private static double[] spheres(RandomSource random, int size, double[] line) {
+        double[] spheres = new double[size * 4];
+        for (int i = 0; i < size; i++) {
+            float t = (float) i / size;
+            double r = random.nextDouble() * size / 16.0;
+            spheres[i * 4] = Mth.lerp(t, line[0], line[3]);
+            spheres[i * 4 + 1] = Mth.lerp(t, line[1], line[4]);
+            spheres[i * 4 + 2] = Mth.lerp(t, line[2], line[5]);
+            spheres[i * 4 + 3] = ((Mth.sin((float) Math.PI * t) + 1.0F) * r + 1.0) / 2.0;
+        }
+        for (int a = 0; a < size - 1; a++) {
+            if (spheres[a * 4 + 3] <= 0.0) {
+                continue;
+            }
+            for (int b = a + 1; b < size; b++) {
+                if (spheres[b * 4 + 3] <= 0.0) {
+                    continue;
+                }
+                double dx = spheres[a * 4] - spheres[b * 4];
+                double dy = spheres[a * 4 + 1] - spheres[b * 4 + 1];
+                double dz = spheres[a * 4 + 2] - spheres[b * 4 + 2];
+                double dr = spheres[a * 4 + 3] - spheres[b * 4 + 3];
+                if (dr * dr > dx * dx + dy * dy + dz * dz) {
+                    spheres[(dr > 0.0 ? b : a) * 4 + 3] = -1.0;
+                }
+            }
+        }
+        return spheres;
+    }
+
+    // Inclusive chunk rectangle in one dimension
+    public record DisabledRegion(ResourceKey<Level> dimension, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        boolean contains(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+            return this.dimension == dimension && chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ;
+        }
+    }
+
+    // Per placement cache of "could this section contain a replaceable block?". Consecutive positions are
+    // nearly always in the same section, so the last verdict is checked before the map.
+    private static final class SectionFilter {
+        private final Predicate<BlockState> host;
+        private final Long2BooleanOpenHashMap verdicts = new Long2BooleanOpenHashMap(8);
+        private long lastKey = Long.MIN_VALUE;
+        private boolean lastVerdict;
+
+        SectionFilter(List<OreConfiguration.TargetBlockState> targets, RandomSource random) {
+            boolean deterministic = targets.stream().allMatch(target -> deterministic(target.target));
+            this.host = deterministic ? state -> {
+                for (OreConfiguration.TargetBlockState target : targets) {
+                    if (target.target.test(state, random)) {
+                        return true;
+                    }
+                }
+                return false;
+            } : null;
+        }
+
+        boolean mayHost(LevelChunkSection section, int x, int y, int z) {
+            if (host == null) {
+                return true;
+            }
+            long key = SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z));
+            if (key == lastKey) {
+                return lastVerdict;
+            }
+            lastKey = key;
+            if (verdicts.containsKey(key)) {
+                lastVerdict = verdicts.get(key);
+            } else {
+                lastVerdict = !section.hasOnlyAir() && section.maybeHas(host);
+                verdicts.put(key, lastVerdict);
+                SECTIONS_CHECKED.increment();
+                if (!lastVerdict) {
+                    SECTIONS_SKIPPED.increment();
+                }
+            }
+            return lastVerdict;
+        }
+
+        // Rules that never touch the random source, so a palette scan gives the same answer as per-block tests
+        private static boolean deterministic(RuleTest rule) {
+            return rule instanceof TagMatchTest || rule instanceof BlockMatchTest
+                    || rule instanceof BlockStateMatchTest || rule instanceof AlwaysTrueTest;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.creator.chiselunlimited.worldgen;
+
+import com.creator.chiselunlimited.ChiselUnlimited;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.ColumnPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+
+// Times world generation with the alexandrite ore feature on and off:
+//   /chisel_unlimited pregen <radius> [<x> <z>]
+// Generates two fresh square regions of (2 * radius + 1)^2 chunks to FULL status, the first with the feature
+// enabled and the second, just east of it, with the feature disabled for that region only. It then reports
+// chunks per second for both. Every chunk holds a region ticket of our own from request until completion, and
+// up to MAX_IN_FLIGHT requests stay open across ticks so the server stays responsive and the workers stay busy.
+// Only chunks that actually reached FULL are counted; failures are reported separately.
+// The disabled region never gets alexandrite, so only run this on a throwaway world.
+public final class PregenBenchmark {
+    private static final TicketType<ChunkPos> TICKET = TicketType.create(ChiselUnlimited.MOD_ID + "_pregen", Comparator.comparingLong(ChunkPos::toLong));
+    private static final int MAX_IN_FLIGHT = 64;
+    // Chunks between the two regions so neither run generates the other's neighbours
+    private static final int GAP = 8;
+    private static final Deque<Run> RUNS = new ArrayDeque<>();
+
+    private PregenBenchmark() {
+    }
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(ChiselUnlimited.MOD_ID)
+                .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                .then(Commands.literal("pregen")
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(1, 128))
+                                .executes(context -> start(context.getSource(), IntegerArgumentType.getInteger(context, "radius"),
+                                        new ChunkPos(BlockPos.containing(context.getSource().getPosition()))))
+                                .then(Commands.argument("origin", ColumnPosArgument.columnPos())
+                                        .executes(context -> start(context.getSource(), IntegerArgumentType.getInteger(context, "radius"),
+                                                ColumnPosArgument.getColumnPos(context, "origin").toChunkPos()))))));
+    }
+
+    private static int start(CommandSourceStack source, int radius, ChunkPos origin) {
+        if (!RUNS.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.chisel_unlimited.pregen.busy"));
+            return 0;
+        }
+        ServerLevel level = source.getLevel();
+        RUNS.addLast(new Run(source, level, origin, radius, true));
+        RUNS.addLast(new Run(source, level, new ChunkPos(origin.x + 2 * radius + 1 + GAP, origin.z), radius, false));
+        source.sendSuccess(() -> Component.translatable("commands.chisel_unlimited.pregen.started", 2 * (2 * radius + 1) * (2 * radius + 1)), true);
+        return 1;
+    }
+
+    public static void tick() {
+        Run run = RUNS.peekFirst();
+        if (run == null) {
+            return;
+        }
+        run.dispatch();
+        if (run.finished()) {
+            RUNS.removeFirst();
+            run.report();
+            PaletteAwareOreFeature.setDisabledRegion(null);
+        }
+    }
+
+    public static void stop() {
+        RUNS.clear();
+        PaletteAwareOreFeature.setDisabledRegion(null);
+    }
+
+    private static final class Run {
+        private final CommandSourceStack source;
+        private final ServerLevel level;
+        private final ChunkPos origin;
+        private final int radius;
+        private final int side;
+        private final boolean featureEnabled;
+        // Only touched on the server thread: requests are made there and completions are handed back to it
+        private int dispatched;
+        private int generated;
+        private int failed;
+        private long startNanos;
+        private long elapsedNanos = -1;
+
+        Run(CommandSourceStack source, ServerLevel level, ChunkPos origin, int radius, boolean featureEnabled) {
+            this.source = source;
+            this.level = level;
+            this.origin = origin;
+            this.radius = radius;
+            this.side = 2 * radius + 1;
+            this.featureEnabled = featureEnabled;
+        }
+
+        void dispatch() {
+            if (dispatched == 0) {
+                PaletteAwareOreFeature.setDisabledRegion(featureEnabled ? null : new PaletteAwareOreFeature.DisabledRegion(level.dimension(),
+                        origin.x - radius, origin.z - radius, origin.x + radius, origin.z + radius));
+                PaletteAwareOreFeature.resetStats();
+                startNanos = System.nanoTime();
+            }
+            int total = side * side;
+            while (dispatched < total && dispatched - generated - failed < MAX_IN_FLIGHT) {
+                ChunkPos pos = new ChunkPos(origin.x - radius + dispatched % side, origin.z - radius + dispatched / side);
+                dispatched++;
+                // Our ticket keeps the chunk loaded for as long as the request is open, however many ticks that takes
+                level.getChunkSource().addRegionTicket(TICKET, pos, 0, pos);
+                level.getChunkSource().getChunkFuture(pos.x, pos.z, ChunkStatus.FULL, true)
+                        .whenCompleteAsync((result, error) -> complete(pos, result, error), level.getServer());
+            }
+        }
+
+        private void complete(ChunkPos pos, ChunkResult<ChunkAccess> result, Throwable error) {
+            level.getChunkSource().removeRegionTicket(TICKET, pos, 0, pos);
+            if (error == null && result.isSuccess()) {
+                generated++;
+            } else {
+                failed++;
+            }
+        }
+
+        boolean finished() {
+            if (elapsedNanos < 0 && generated + failed == side * side) {
+                elapsedNanos = System.nanoTime() - startNanos;
+            }
+            return elapsedNanos >= 0;
+        }
+
+        void report() {
+            double seconds = elapsedNanos / 1.0E9;
+            String time = String.format("%.2f", seconds);
+            String rate = String.format("%.1f", generated / seconds);
+            long checked = PaletteAwareOreFeature.sectionsChecked();
+            long skipped = PaletteAwareOreFeature.sectionsSkipped();
+            ChiselUnlimited.LOGGER.info("Pregen benchmark (ore feature {}): {} chunks around {} in {} s, {} chunks/s, {} failed, {}/{} sections skipped",
+                    featureEnabled ? "on" : "off", generated, origin, time, rate, failed, skipped, checked);
+            source.sendSuccess(() -> Component.translatable("commands.chisel_unlimited.pregen.result",
+                    Component.translatable(featureEnabled ? "commands.chisel_unlimited.pregen.on" : "commands.chisel_unlimited.pregen.off"),
+                    generated, time, rate, failed, skipped, checked), true);
+        }
+    }
+}